@@ -0,0 +1,88 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.response.PlayerResponse;
+import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.dto.response.TeamPlayerDtoResponse;
+import com.football_manager.entity.Player;
+import com.football_manager.entity.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder-based conversions of players and teams into responses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"25", "100"})
+    private int players;
+
+    private List<Player> squad;
+    private TeamDtoResponse team;
+    private List<PlayerResponse> roster;
+
+    @Setup
+    public void setUp() {
+        Team teamEntity = Team.builder()
+                .id(1)
+                .name("Liverpool")
+                .balance(1000000.0)
+                .commissionPercentage(9.0)
+                .build();
+        team = new TeamDtoResponse(1, "Liverpool", 1000000.0, 9.0);
+
+        squad = new ArrayList<>();
+        roster = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            Player player = Player.builder()
+                    .id(i)
+                    .firstName("First " + i)
+                    .lastName("Last " + i)
+                    .birthDate(LocalDate.of(1990 + i % 15, 1 + i % 12, 1 + i % 28))
+                    .experienceMonths(6 + i % 60)
+                    .team(teamEntity)
+                    .build();
+            squad.add(player);
+            roster.add(PlayerResponse.builder()
+                    .id(player.getId())
+                    .firstName(player.getFirstName())
+                    .lastName(player.getLastName())
+                    .age(player.getAge())
+                    .experienceMonths(player.getExperienceMonths())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<PlayerTeamDtoResponse> mapPlayersToDto() {
+        List<PlayerTeamDtoResponse> responses = new ArrayList<>(squad.size());
+        for (Player player : squad) {
+            responses.add(PlayerService.mapToDto(player));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public TeamPlayerDtoResponse mapToTeamPlayerDto() {
+        return TeamService.mapToTeamPlayerDto(team, roster);
+    }
+}
@@ -0,0 +1,91 @@
+package com.football_manager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football_manager.dto.response.PlayerResponse;
+import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.dto.response.TeamPlayerDtoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the list responses, with the default page sizes of the list endpoints:
+ * 100 players for /api/players and 20 teams of 25 players for /api/teams.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    private static final int PLAYERS_PAGE_SIZE = 100;
+    private static final int TEAMS_PAGE_SIZE = 20;
+    private static final int SQUAD_SIZE = 25;
+
+    private ObjectMapper objectMapper;
+    private List<PlayerTeamDtoResponse> players;
+    private List<TeamPlayerDtoResponse> teams;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS_PAGE_SIZE; i++) {
+            players.add(PlayerTeamDtoResponse.builder()
+                    .id(i)
+                    .firstName("First " + i)
+                    .lastName("Last " + i)
+                    .age(18 + i % 18)
+                    .experienceMonths(6 + i % 60)
+                    .team(new TeamDtoResponse(i % TEAMS_PAGE_SIZE, "Team " + i % TEAMS_PAGE_SIZE, 1000000.0, 5.0))
+                    .build());
+        }
+
+        teams = new ArrayList<>();
+        for (int t = 0; t < TEAMS_PAGE_SIZE; t++) {
+            List<PlayerResponse> roster = new ArrayList<>();
+            for (int i = 0; i < SQUAD_SIZE; i++) {
+                roster.add(PlayerResponse.builder()
+                        .id(t * SQUAD_SIZE + i)
+                        .firstName("First " + i)
+                        .lastName("Last " + i)
+                        .age(18 + i % 18)
+                        .experienceMonths(6 + i % 60)
+                        .build());
+            }
+            teams.add(TeamPlayerDtoResponse.builder()
+                    .id(t)
+                    .name("Team " + t)
+                    .balance(1000000.0)
+                    .commissionPercentage(5.0)
+                    .players(roster)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePlayers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(players);
+    }
+
+    @Benchmark
+    public byte[] serializeTeams() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(teams);
+    }
+}
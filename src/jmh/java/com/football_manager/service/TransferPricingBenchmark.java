@@ -0,0 +1,60 @@
+package com.football_manager.service;
+
+import com.football_manager.entity.Player;
+import com.football_manager.entity.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfer price calculation and player age, computed for every transfer and every player response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransferPricingBenchmark {
+
+    private Player player;
+    private Team team;
+
+    @Setup
+    public void setUp() {
+        team = Team.builder()
+                .id(1)
+                .name("Liverpool")
+                .balance(1000000.0)
+                .commissionPercentage(9.0)
+                .build();
+        player = Player.builder()
+                .id(1)
+                .firstName("Mohamed")
+                .lastName("Salah")
+                .birthDate(LocalDate.of(1992, 6, 15))
+                .experienceMonths(30)
+                .team(team)
+                .build();
+    }
+
+    @Benchmark
+    public double calculateTotalTransferCost() {
+        return PlayerService.calculateTotalTransferCost(player.getExperienceMonths(), player.getAge(),
+                team.getCommissionPercentage());
+    }
+
+    @Benchmark
+    public Integer getAge() {
+        return player.getAge();
+    }
+}
@@ -0,0 +1,81 @@
+package com.football_manager.simulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfer window simulation on a synthetic league over fork-join threads, league sizes and trial lengths.
+ * The score is in trials per second.
+ * Run with: mvn -Pbenchmark verify -Dbenchmark.include=TransferSimulatorBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransferSimulatorBenchmark {
+
+    private static final int TRIALS = 4096;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"20", "200"})
+    private int teamCount;
+
+    @Param({"25"})
+    private int playersPerTeam;
+
+    @Param({"100", "1000"})
+    private int transfersPerTrial;
+
+    private ForkJoinPool pool;
+    private TransferSimulator simulator;
+    private LeagueState state;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        simulator = new TransferSimulator(pool);
+        state = new LeagueState();
+        Random random = new Random(42);
+        for (int team = 0; team < teamCount; team++) {
+            // Balances of 1 to 100 million in cents, so poorer teams get rejected.
+            state.addTeam(team + 1, 100_000_000L + random.nextInt(9_900_000) * 1000L, random.nextInt(11));
+        }
+        int players = teamCount * playersPerTeam;
+        for (int player = 0; player < players; player++) {
+            // One player in ten without team.
+            int team = random.nextInt(10) == 0 ? -1 : random.nextInt(teamCount);
+            state.addPlayer(player + 1, team, random.nextInt(120) * 100000.0 / (18 + random.nextInt(20)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRIALS)
+    public SimulationStatistics simulate() {
+        return simulator.simulate(state, TRIALS, transfersPerTrial, seed++, progress -> { });
+    }
+}
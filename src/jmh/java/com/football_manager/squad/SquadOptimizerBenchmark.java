@@ -0,0 +1,93 @@
+package com.football_manager.squad;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Squad builder search over growing numbers of candidates and fork-join threads, with the production time budget.
+ * The counters show how many searches finished (proved optimal) and the experience of the squads found.
+ * Run with: mvn -Pbenchmark verify -Dbenchmark.include=SquadOptimizerBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SquadOptimizerBenchmark {
+
+    @Param({"10000", "100000", "400000"})
+    private int candidateCount;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"2000"})
+    private long timeBudgetMs;
+
+    private ForkJoinPool pool;
+    private SquadOptimizer optimizer;
+    private SquadCandidates candidates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        optimizer = new SquadOptimizer(pool);
+        candidates = new SquadCandidates();
+        Random random = new Random(42);
+        for (int i = 0; i < candidateCount; i++) {
+            // Prices of 0.5 to 10 million in cents, growing with experience, with noise.
+            int experienceMonths = 1 + random.nextInt(120);
+            long cost = 50_000_000L + experienceMonths * 7_500_000L + random.nextInt(100_000_000);
+            candidates.add(i + 1, cost, experienceMonths);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SquadCounters {
+        public long optimal;
+        public long experienceMonths;
+    }
+
+    @Benchmark
+    public SquadSolution solveWithinBalance(SquadCounters counters) {
+        // A balance of 25 million, about 20 players.
+        SquadSolution solution = optimizer.solve(candidates, 2_500_000_000L, Integer.MAX_VALUE, Duration.ofMillis(timeBudgetMs));
+        count(counters, solution);
+        return solution;
+    }
+
+    @Benchmark
+    public SquadSolution solveWithMaxPlayers(SquadCounters counters) {
+        SquadSolution solution = optimizer.solve(candidates, 2_500_000_000L, 11, Duration.ofMillis(timeBudgetMs));
+        count(counters, solution);
+        return solution;
+    }
+
+    private void count(SquadCounters counters, SquadSolution solution) {
+        counters.optimal += solution.isOptimal() ? 1 : 0;
+        counters.experienceMonths += solution.getExperienceMonths();
+    }
+}
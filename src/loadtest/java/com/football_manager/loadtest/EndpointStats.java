@@ -0,0 +1,76 @@
+package com.football_manager.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and response statuses of one endpoint.
+ */
+public class EndpointStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private int dropped;
+    private final Map<String, Integer> statuses = new TreeMap<>();
+
+    public synchronized void record(long latencyNanos, String status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        statuses.merge(status, 1, Integer::sum);
+        if (!status.startsWith("2")) {
+            errors++;
+        }
+    }
+
+    public synchronized void recordDropped() {
+        dropped++;
+    }
+
+    public synchronized void copyTo(EndpointStats target) {
+        synchronized (target) {
+            target.latencies = Arrays.copyOf(target.latencies, Math.max(target.latencies.length, target.count + count));
+            System.arraycopy(latencies, 0, target.latencies, target.count, count);
+            target.count += count;
+            target.errors += errors;
+            target.dropped += dropped;
+            statuses.forEach((status, requests) -> target.statuses.merge(status, requests, Integer::sum));
+        }
+    }
+
+    public synchronized Map<String, Object> summary(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new TreeMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("dropped", dropped);
+        summary.put("throughputPerSecond", round(count / seconds));
+        summary.put("p50Ms", percentile(sorted, 50));
+        summary.put("p95Ms", percentile(sorted, 95));
+        summary.put("p99Ms", percentile(sorted, 99));
+        summary.put("maxMs", count == 0 ? 0.0 : toMillis(sorted[count - 1]));
+        summary.put("statuses", new TreeMap<>(statuses));
+        return summary;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return toMillis(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
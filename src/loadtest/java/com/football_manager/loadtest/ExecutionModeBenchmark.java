@@ -0,0 +1,92 @@
+package com.football_manager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the same load test against the platform-thread and the virtual-thread execution modes
+ * and prints the results side by side. Both runs use a deliberately small connection pool
+ * (load.pool-size, 10 by default), so requests outnumber connections.
+ * Each mode runs in a fresh JVM, so the second one does not start with a warm JIT and heap,
+ * and every SQL statement waits load.db-latency-ms (5 by default in the pom), so JDBC blocks like a real database.
+ * Run with {@code mvn -Pload-test verify -Dload.main=com.football_manager.loadtest.ExecutionModeBenchmark -Dload.rate=1000}.
+ */
+public class ExecutionModeBenchmark {
+
+    private static final String MODE_PROPERTY = "load.execution-mode";
+    private static final String[] MODES = {"platform", "virtual"};
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        String mode = System.getProperty(MODE_PROPERTY);
+        if (mode != null) {
+            runMode(settings, mode);
+            System.exit(0);
+        }
+
+        Map<String, Map<?, ?>> results = new LinkedHashMap<>();
+        for (String forkedMode : MODES) {
+            System.out.println("Execution mode: " + forkedMode);
+            int exitCode = new ProcessBuilder(forkCommand(forkedMode)).inheritIO().start().waitFor();
+            if (exitCode != 0) {
+                throw new IllegalStateException("Load test of the " + forkedMode + " mode exited with " + exitCode);
+            }
+            results.put(forkedMode, new ObjectMapper().readValue(summaryFile(settings, forkedMode), Map.class));
+        }
+
+        System.out.printf("%-10s %9s %7s %8s %9s %9s %9s %9s %9s %9s%n", "mode", "requests", "errors", "dropped",
+                "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "threads");
+        results.forEach((forkedMode, values) -> System.out.printf("%-10s %9s %7s %8s %9s %9s %9s %9s %9s %9s%n", forkedMode,
+                values.get("requests"), values.get("errors"), values.get("dropped"), values.get("throughputPerSecond"),
+                values.get("p50Ms"), values.get("p95Ms"), values.get("p99Ms"), values.get("maxMs"), values.get("peakPlatformThreads")));
+        System.exit(0);
+    }
+
+    private static void runMode(LoadTestSettings settings, String mode) throws IOException {
+        int poolSize = Integer.getInteger("load.pool-size", 10);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        Map<String, Object> summary = new LinkedHashMap<>(LoadTest.execute(
+                settings.toBuilder().report(reportFile(settings, mode)).build(),
+                "--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                "--spring.datasource.url=jdbc:h2:mem:load-test-" + mode + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--football-manager.datasource.admission.permits=" + poolSize,
+                "--spring.jpa.properties.hibernate.session_factory.statement_inspector=" + LatencyStatementInspector.class.getName()));
+        summary.put("peakPlatformThreads", threads.getPeakThreadCount());
+        new ObjectMapper().writeValue(summaryFile(settings, mode), summary);
+    }
+
+    /**
+     * The same JVM and class path, with every load.* system property passed on.
+     */
+    private static List<String> forkCommand(String mode) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("load.") && !name.equals(MODE_PROPERTY))
+                .sorted()
+                .forEach(name -> command.add("-D" + name + "=" + System.getProperty(name)));
+        command.add("-D" + MODE_PROPERTY + "=" + mode);
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ExecutionModeBenchmark.class.getName());
+        return command;
+    }
+
+    private static String reportFile(LoadTestSettings settings, String mode) {
+        return settings.getReport().replace(".json", "-" + mode + ".json");
+    }
+
+    private static File summaryFile(LoadTestSettings settings, String mode) {
+        return new File(settings.getReport().replace(".json", "-" + mode + "-summary.json"));
+    }
+}
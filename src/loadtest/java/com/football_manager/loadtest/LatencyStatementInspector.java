@@ -0,0 +1,26 @@
+package com.football_manager.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulated database latency: every SQL statement Hibernate prepares waits load.db-latency-ms first,
+ * on the request thread and while holding its connection, as if the database were that far away.
+ * In-memory H2 answers in microseconds, so without it JDBC never really blocks a thread.
+ */
+public class LatencyStatementInspector implements StatementInspector {
+
+    private final long latencyNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("load.db-latency-ms", 0L));
+
+    @Override
+    public String inspect(String sql) {
+        if (latencyNanos > 0) {
+            try {
+                Thread.sleep(latencyNanos / 1_000_000, (int) (latencyNanos % 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,252 @@
+package com.football_manager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.football_manager.FootballManagerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end load test of the REST API.
+ * Boots the application against an in-memory database, seeds a league and sends a mixed workload
+ * with an open-model (Poisson) arrival rate: requests are issued on schedule whether or not earlier
+ * ones have completed, and latency is measured from the scheduled arrival time.
+ * Run with {@code mvn -Pload-test verify -Dload.rate=300 -Dload.duration-seconds=120}.
+ */
+public class LoadTest {
+
+    private static final String FAILED_STATUS = "failed";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final LoadTestSettings settings;
+    private final HttpClient httpClient;
+    private final Random random;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<Integer> teamIds = new ArrayList<>();
+    private final List<Integer> playerIds = new ArrayList<>();
+    private String baseUrl;
+
+    public LoadTest(LoadTestSettings settings) {
+        this.settings = settings;
+        this.random = new Random(settings.getSeed());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    public static void main(String[] args) throws IOException {
+        execute(LoadTestSettings.fromSystemProperties(), args);
+        System.exit(0);
+    }
+
+    /**
+     * Boots the application, runs the load test against it and writes the report.
+     *
+     * @param settings load test settings
+     * @param args extra application arguments, e.g. --spring.threads.virtual.enabled=true
+     * @return summary of all measured requests.
+     */
+    public static Map<String, Object> execute(LoadTestSettings settings, String... args) throws IOException {
+        // Passed as command line arguments, so they take precedence over application.properties.
+        String[] properties = {
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-test;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"
+        };
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FootballManagerApplication.class)
+                .run(Stream.concat(Stream.of(properties).filter(property -> !isOverridden(property, args)), Stream.of(args))
+                        .toArray(String[]::new));
+        try {
+            LoadTest loadTest = new LoadTest(settings);
+            loadTest.seed(context.getBean(JdbcTemplate.class));
+            return loadTest.run(((WebServerApplicationContext) context).getWebServer().getPort());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static boolean isOverridden(String property, String[] args) {
+        String name = property.substring(0, property.indexOf('=') + 1);
+        return Stream.of(args).anyMatch(arg -> arg.startsWith(name));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> teams = new ArrayList<>();
+        for (int i = 0; i < settings.getTeams(); i++) {
+            teams.add(new Object[]{"Load Team " + i, 50_000_000, random.nextInt(10)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO teams (name, balance, commission_percentage) VALUES (?, ?, ?)", teams);
+        teamIds.addAll(jdbcTemplate.queryForList("SELECT id FROM teams ORDER BY id", Integer.class));
+
+        List<Object[]> players = new ArrayList<>();
+        for (int i = 0; i < settings.getPlayers(); i++) {
+            players.add(new Object[]{"Load", "Player " + i, randomBirthDate(), 6 + random.nextInt(120), randomId(teamIds)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO players (first_name, last_name, birth_date, experience_months, team_id) "
+                + "VALUES (?, ?, CAST(? AS DATE), ?, ?)", players);
+        playerIds.addAll(jdbcTemplate.queryForList("SELECT id FROM players ORDER BY id", Integer.class));
+    }
+
+    private Map<String, Object> run(int port) throws IOException {
+        baseUrl = "http://localhost:" + port;
+        Operation[] operations = weightedOperations();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(settings.getWarmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(settings.getDurationSeconds());
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRequestsPerSecond();
+
+        long arrival = start;
+        while (arrival < end) {
+            long wait = arrival - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = operations[random.nextInt(operations.length)];
+            HttpRequest request = buildRequest(operation);
+            boolean measured = arrival >= measureFrom;
+
+            if (inFlight.get() >= settings.getMaxInFlight()) {
+                if (measured) {
+                    statsFor(operation).recordDropped();
+                }
+            } else {
+                send(operation, request, arrival, measured);
+            }
+            arrival += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        return writeReport();
+    }
+
+    private void send(Operation operation, HttpRequest request, long arrival, boolean measured) {
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        String status = error == null ? String.valueOf(response.statusCode()) : FAILED_STATUS;
+                        statsFor(operation).record(System.nanoTime() - arrival, status);
+                    }
+                });
+    }
+
+    private EndpointStats statsFor(Operation operation) {
+        return stats.computeIfAbsent(operation.getEndpoint(), endpoint -> new EndpointStats());
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        return switch (operation) {
+            case LIST_PLAYERS -> get("/api/players?after=" + (randomId(playerIds) - 1) + "&limit=100");
+            case LIST_TEAMS -> get("/api/teams?page=" + random.nextInt(Math.max(1, teamIds.size() / 20)) + "&size=20");
+            case GET_PLAYER -> get("/api/players/" + randomId(playerIds));
+            case GET_TEAM -> get("/api/teams/" + randomId(teamIds));
+            case CREATE_PLAYER -> post("/api/players", String.format(
+                    "{\"firstName\":\"Load\",\"lastName\":\"Created\",\"birthDate\":\"%s\",\"experienceMonths\":%d,\"teamId\":%d}",
+                    randomBirthDate(), 6 + random.nextInt(120), randomId(teamIds)));
+            case TRANSFER -> post("/api/players/" + randomId(playerIds) + "/transfer/" + randomId(teamIds), "");
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private Operation[] weightedOperations() {
+        List<Operation> operations = new ArrayList<>();
+        settings.getMix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        return operations.toArray(Operation[]::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> writeReport() throws IOException {
+        double seconds = settings.getDurationSeconds();
+        Map<String, Object> endpoints = new TreeMap<>();
+        EndpointStats total = new EndpointStats();
+        stats.forEach((endpoint, endpointStats) -> endpoints.put(endpoint, endpointStats.summary(seconds)));
+        stats.values().forEach(endpointStats -> endpointStats.copyTo(total));
+
+        Map<String, Object> report = new TreeMap<>();
+        report.put("settings", settings);
+        report.put("endpoints", endpoints);
+        report.put("total", total.summary(seconds));
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        Path path = Path.of(settings.getReport());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writeValue(path.toFile(), report);
+
+        System.out.printf("%-50s %9s %7s %8s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "dropped", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        endpoints.forEach((endpoint, summary) -> printSummary(endpoint, summary));
+        printSummary("total", report.get("total"));
+        System.out.println("Report written to " + path.toAbsolutePath());
+        return (Map<String, Object>) report.get("total");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void printSummary(String endpoint, Object summary) {
+        Map<String, Object> values = (Map<String, Object>) summary;
+        System.out.printf("%-50s %9s %7s %8s %9s %9s %9s %9s %9s%n", endpoint, values.get("requests"), values.get("errors"), values.get("dropped"),
+                values.get("throughputPerSecond"), values.get("p50Ms"), values.get("p95Ms"), values.get("p99Ms"), values.get("maxMs"));
+    }
+
+    private String randomBirthDate() {
+        return LocalDate.of(1985, 1, 1).plusDays(random.nextInt(20 * 365)).toString();
+    }
+
+    private Integer randomId(List<Integer> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
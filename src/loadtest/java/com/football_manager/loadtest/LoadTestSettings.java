@@ -0,0 +1,57 @@
+package com.football_manager.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from system properties with the load. prefix.
+ */
+@Value
+@Builder(toBuilder = true)
+public class LoadTestSettings {
+
+    private static final String DEFAULT_MIX = "list-players:25,list-teams:15,get-player:40,get-team:5,create-player:5,transfer:10";
+
+    int teams;
+
+    int players;
+
+    double requestsPerSecond;
+
+    int warmupSeconds;
+
+    int durationSeconds;
+
+    int maxInFlight;
+
+    long seed;
+
+    Map<Operation, Integer> mix;
+
+    String report;
+
+    public static LoadTestSettings fromSystemProperties() {
+        return LoadTestSettings.builder()
+                .teams(Integer.getInteger("load.teams", 200))
+                .players(Integer.getInteger("load.players", 5000))
+                .requestsPerSecond(Double.parseDouble(System.getProperty("load.rate", "200")))
+                .warmupSeconds(Integer.getInteger("load.warmup-seconds", 10))
+                .durationSeconds(Integer.getInteger("load.duration-seconds", 60))
+                .maxInFlight(Integer.getInteger("load.max-in-flight", 512))
+                .seed(Long.getLong("load.seed", 42L))
+                .mix(parseMix(System.getProperty("load.mix", DEFAULT_MIX)))
+                .report(System.getProperty("load.report", "target/load-test-report.json"))
+                .build();
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.trim().split(":");
+            weights.put(Operation.fromName(weight[0]), Integer.parseInt(weight[1]));
+        }
+        return weights;
+    }
+}
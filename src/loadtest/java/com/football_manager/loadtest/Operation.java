@@ -0,0 +1,35 @@
+package com.football_manager.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Request types of the workload mix, reported under their controller endpoint.
+ */
+public enum Operation {
+
+    LIST_PLAYERS("list-players", "GET /api/players"),
+    LIST_TEAMS("list-teams", "GET /api/teams"),
+    GET_PLAYER("get-player", "GET /api/players/{id}"),
+    GET_TEAM("get-team", "GET /api/teams/{id}"),
+    CREATE_PLAYER("create-player", "POST /api/players"),
+    TRANSFER("transfer", "POST /api/players/{playerId}/transfer/{teamId}");
+
+    private final String name;
+    private final String endpoint;
+
+    Operation(String name, String endpoint) {
+        this.name = name;
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation in load.mix: " + name));
+    }
+}
@@ -1,13 +1,20 @@
 package com.football_manager;
 
+import com.football_manager.runner.ImportRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class FootballManagerApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(FootballManagerApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(FootballManagerApplication.class, args);
+		if (context.getBean(ImportRunner.class).hasImported()) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
@@ -0,0 +1,165 @@
+package com.football_manager.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football_manager.event.PlayerChangedEvent;
+import com.football_manager.event.TeamChangedEvent;
+import com.football_manager.event.TransferCompletedEvent;
+import com.football_manager.service.PlayerService;
+import com.football_manager.service.TeamService;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-memory snapshot of the full team and player listings as serialized JSON, plain and gzip-compressed.
+ * Changes only mark the snapshot stale; it is rebuilt in the background at most
+ * football-manager.snapshot.max-staleness after the change committed, plus the rebuild time.
+ * Player ages are computed from the current date, so a snapshot built on an earlier day is stale too.
+ * Enabled with football-manager.snapshot.enabled=true.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "football-manager.snapshot", name = "enabled", havingValue = "true")
+public class LeagueSnapshot {
+
+    private final TeamService teamService;
+    private final PlayerService playerService;
+    private final ObjectMapper objectMapper;
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private long builds;
+    private volatile LocalDate builtOn;
+    private volatile Listing teams;
+    private volatile Listing players;
+
+    @Autowired
+    public LeagueSnapshot(TeamService teamService, PlayerService playerService, ObjectMapper objectMapper) {
+        this.teamService = teamService;
+        this.playerService = playerService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Method get all teams with their players, built on first use.
+     *
+     * @return {@link Listing}.
+     */
+    public Listing getTeams() {
+        Listing listing = teams;
+        return listing != null ? listing : buildFirst().teams;
+    }
+
+    /**
+     * Method get all players with their teams, built on first use.
+     *
+     * @return {@link Listing}.
+     */
+    public Listing getPlayers() {
+        Listing listing = players;
+        return listing != null ? listing : buildFirst().players;
+    }
+
+    /**
+     * Method for rebuild the snapshot if anything changed since the last build.
+     */
+    @Scheduled(fixedDelayString = "${football-manager.snapshot.max-staleness:PT1S}")
+    public void refresh() {
+        if (builtOn != null && !builtOn.equals(LocalDate.now())) {
+            stale.set(true);
+        }
+        if (stale.getAndSet(false)) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                stale.set(true);
+                log.warn("League snapshot rebuild failed, the previous snapshot is served", e);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        stale.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        stale.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransferCompleted(TransferCompletedEvent event) {
+        stale.set(true);
+    }
+
+    private synchronized LeagueSnapshot buildFirst() {
+        if (teams == null || players == null) {
+            stale.set(false);
+            rebuild();
+        }
+        return this;
+    }
+
+    private synchronized void rebuild() {
+        long build = ++builds;
+        LocalDate today = LocalDate.now();
+        Listing builtTeams = serialize("teams." + build, teamService::streamAllTeams);
+        Listing builtPlayers = serialize("players." + build, playerService::streamAllPlayers);
+        teams = builtTeams;
+        players = builtPlayers;
+        builtOn = today;
+    }
+
+    private <T> Listing serialize(String version, Consumer<Consumer<T>> source) {
+        try {
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            try (JsonGenerator generator = objectMapper.createGenerator(json)) {
+                generator.writeStartArray();
+                source.accept(item -> writeItem(generator, item));
+                generator.writeEndArray();
+            }
+
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.size() / 4);
+            try (GZIPOutputStream outputStream = new GZIPOutputStream(gzip)) {
+                json.writeTo(outputStream);
+            }
+            return new Listing(json.toByteArray(), gzip.toByteArray(), instanceId + "-" + version);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeItem(JsonGenerator generator, Object item) {
+        try {
+            generator.writeObject(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Serialized listing with its ETag.
+     */
+    @Value
+    public static class Listing {
+
+        byte[] json;
+
+        byte[] gzip;
+
+        String eTag;
+    }
+}
@@ -0,0 +1,123 @@
+package com.football_manager.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing of identical reads. While a load of a key is in flight, concurrent calls for the same key
+ * wait for its result, or its exception, instead of loading again. Nothing is kept once the load finishes, so this is
+ * not a cache. Keys should contain a version stamp, so a call never joins a load which started before a change
+ * the caller has already seen. A call which waits longer than the wait timeout of its name loads on its own.
+ */
+public class RequestCoalescer {
+
+    private static final String CALLS = "coalescing.calls";
+    private static final String IN_FLIGHT = "coalescing.in.flight";
+    private static final String WAITING = "coalescing.waiting";
+
+    private static final String LOADED = "loaded";
+    private static final String COALESCED = "coalesced";
+    private static final String TIMED_OUT = "timed_out";
+
+    private final boolean enabled;
+    private final Duration waitTimeout;
+    private final Map<String, Duration> waitTimeouts;
+    private final MeterRegistry meterRegistry;
+    private final Map<Flight, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public RequestCoalescer(boolean enabled, Duration waitTimeout, Map<String, Duration> waitTimeouts,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.waitTimeout = waitTimeout;
+        this.waitTimeouts = Map.copyOf(waitTimeouts);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(IN_FLIGHT, flights, Map::size)
+                .description("Coalesced loads in flight")
+                .register(meterRegistry);
+        Gauge.builder(WAITING, waiting, AtomicInteger::get)
+                .description("Calls waiting for a load in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Method get value of the key, from the load in flight for the same name and key or by loading it.
+     *
+     * @param name   {@link String} kind of value, selects the wait timeout and tags the metrics
+     * @param key    {@link Object}
+     * @param loader {@link Supplier} which loads the value
+     * @return value of the key.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Flight flight = new Flight(name, key);
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = flights.putIfAbsent(flight, result);
+        if (inFlight != null) {
+            return (T) await(name, inFlight, loader);
+        }
+
+        calls(name, LOADED).increment();
+        try {
+            T value = loader.get();
+            result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(flight, result);
+        }
+    }
+
+    private Object await(String name, CompletableFuture<Object> inFlight, Supplier<?> loader) {
+        Duration timeout = waitTimeouts.getOrDefault(name, waitTimeout);
+        waiting.incrementAndGet();
+        try {
+            Object value = inFlight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            calls(name, COALESCED).increment();
+            return value;
+        } catch (ExecutionException e) {
+            calls(name, COALESCED).increment();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            calls(name, TIMED_OUT).increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name, e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+        return loader.get();
+    }
+
+    private Counter calls(String name, String outcome) {
+        return Counter.builder(CALLS)
+                .description("Coalesced reads by outcome: loaded by the call, joined a load in flight or timed out waiting")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Flight(String name, Object key) {
+    }
+}
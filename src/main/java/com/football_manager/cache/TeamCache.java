@@ -0,0 +1,84 @@
+package com.football_manager.cache;
+
+import com.football_manager.dto.response.CacheStatsDtoResponse;
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.event.TeamChangedEvent;
+import com.football_manager.event.TransferCompletedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of team data (without players).
+ * Entries are invalidated after the transaction which changed the team commits.
+ */
+@Component
+public class TeamCache {
+
+    private final Cache<Integer, TeamDtoResponse> cache;
+
+    @Autowired
+    public TeamCache(@Value("${football-manager.team-cache.maximum-size:10000}") long maximumSize,
+                     @Value("${football-manager.team-cache.time-to-live:PT5M}") Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Method get team by id, loading it on a miss.
+     *
+     * @param id     {@link Integer}
+     * @param loader {@link Function} which loads the team from the database
+     * @return {@link TeamDtoResponse}.
+     */
+    public TeamDtoResponse get(Integer id, Function<Integer, TeamDtoResponse> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Method for remove team from the cache.
+     *
+     * @param id {@link Integer}
+     */
+    public void invalidate(Integer id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Method get cache statistics.
+     *
+     * @return {@link CacheStatsDtoResponse}.
+     */
+    public CacheStatsDtoResponse getStats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsDtoResponse.builder()
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        invalidate(event.getTeamId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransferCompleted(TransferCompletedEvent event) {
+        if (event.getFromTeamId() != null) {
+            invalidate(event.getFromTeamId());
+        }
+        invalidate(event.getToTeamId());
+    }
+}
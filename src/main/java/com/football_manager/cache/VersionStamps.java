@@ -0,0 +1,108 @@
+package com.football_manager.cache;
+
+import com.football_manager.event.PlayerChangedEvent;
+import com.football_manager.event.TeamChangedEvent;
+import com.football_manager.event.TransferCompletedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version stamps of teams, players and both collections, used as ETags.
+ * A stamp is bumped after the transaction which changed the data commits. Every ETag starts with
+ * an id of this instance, so ETags issued before a restart or by another instance never match.
+ * A team's stamp also covers its roster, a player's ETag also covers the embedded team.
+ * ETags of responses with players end with the current date, because player ages are computed from it.
+ */
+@Component
+public class VersionStamps {
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong teamsVersion = new AtomicLong();
+    private final AtomicLong playersVersion = new AtomicLong();
+    private final Map<Integer, Long> teamVersions = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> playerVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Method get ETag of the team with its roster.
+     *
+     * @param id {@link Integer}
+     * @return {@link String}.
+     */
+    public String getTeamETag(Integer id) {
+        return instanceId + "-t" + id + "." + teamVersions.getOrDefault(id, 0L) + ageDate();
+    }
+
+    /**
+     * Method get ETag of the player with the embedded team.
+     * Teams are not tracked per player, so any team change counts.
+     *
+     * @param id {@link Integer}
+     * @return {@link String}.
+     */
+    public String getPlayerETag(Integer id) {
+        return instanceId + "-p" + id + "." + playerVersions.getOrDefault(id, 0L) + "." + teamsVersion.get() + ageDate();
+    }
+
+    /**
+     * Method get ETag of the team collection without players.
+     *
+     * @return {@link String}.
+     */
+    public String getTeamSummariesETag() {
+        return instanceId + "-ts." + teamsVersion.get();
+    }
+
+    /**
+     * Method get ETag of the team and player collections together,
+     * used by listings which embed one in the other.
+     *
+     * @return {@link String}.
+     */
+    public String getTeamsAndPlayersETag() {
+        return instanceId + "-tp." + teamsVersion.get() + "." + playersVersion.get() + ageDate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        bumpTeam(event.getTeamId());
+        teamsVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        bumpPlayer(event.getPlayerId());
+        bumpTeam(event.getPreviousTeamId());
+        bumpTeam(event.getTeamId());
+        playersVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransferCompleted(TransferCompletedEvent event) {
+        bumpPlayer(event.getPlayerId());
+        bumpTeam(event.getFromTeamId());
+        bumpTeam(event.getToTeamId());
+        playersVersion.incrementAndGet();
+        teamsVersion.incrementAndGet();
+    }
+
+    private String ageDate() {
+        return "." + LocalDate.now().toEpochDay();
+    }
+
+    private void bumpTeam(Integer id) {
+        if (id != null) {
+            teamVersions.merge(id, 1L, Long::sum);
+        }
+    }
+
+    private void bumpPlayer(Integer id) {
+        if (id != null) {
+            playerVersions.merge(id, 1L, Long::sum);
+        }
+    }
+}
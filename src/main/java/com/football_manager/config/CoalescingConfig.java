@@ -0,0 +1,21 @@
+package com.football_manager.config;
+
+import com.football_manager.cache.RequestCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Request coalescing of hot single-entity reads, see {@link RequestCoalescer}.
+ */
+@Configuration
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingConfig {
+
+    @Bean
+    public RequestCoalescer requestCoalescer(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new RequestCoalescer(properties.isEnabled(), properties.getWaitTimeout(), properties.getWaitTimeouts(),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.football_manager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "football-manager.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    private Duration waitTimeout = Duration.ofSeconds(1);
+
+    private Map<String, Duration> waitTimeouts = new HashMap<>();
+}
@@ -0,0 +1,97 @@
+package com.football_manager.config;
+
+import com.football_manager.datasource.AdmissionControlDataSource;
+import com.football_manager.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded database admission for the virtual-thread execution mode (spring.threads.virtual.enabled=true).
+ * Virtual threads make request concurrency effectively unbounded, so every connection pool is wrapped
+ * in {@link AdmissionControlDataSource} with as many permits as it has connections: the primary pool with
+ * football-manager.datasource.admission.permits, each read replica pool with its own pool size.
+ * With read routing the routing proxy itself is not wrapped, so replica reads never wait for primary permits.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "football-manager.datasource.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseAdmissionConfig {
+
+    private static final String PRIMARY_POOL = "primary";
+
+    @Bean
+    public static DatabaseAdmissionPostProcessor databaseAdmissionPostProcessor(
+            @Value("${football-manager.datasource.admission.permits}") int permits,
+            @Value("${football-manager.datasource.admission.acquire-timeout}") Duration acquireTimeout) {
+        return new DatabaseAdmissionPostProcessor(permits, acquireTimeout);
+    }
+
+    /**
+     * Depends on the data source, so all pools are wrapped before the gauges are registered.
+     */
+    @Bean
+    public MeterBinder databaseAdmissionMetrics(DatabaseAdmissionPostProcessor databaseAdmissionPostProcessor,
+                                                DataSource dataSource) {
+        return registry -> databaseAdmissionPostProcessor.getAdmissions().forEach((pool, admission) -> {
+            Gauge.builder("datasource.admission.available", admission, AdmissionControlDataSource::getAvailablePermits)
+                    .description("Free database admission permits")
+                    .tag("pool", pool)
+                    .register(registry);
+            Gauge.builder("datasource.admission.waiting", admission, AdmissionControlDataSource::getQueueLength)
+                    .description("Callers waiting for database admission")
+                    .tag("pool", pool)
+                    .register(registry);
+        });
+    }
+
+    /**
+     * Wraps the primary Hikari pool (the dataSource bean, or primaryDataSource with read routing)
+     * and the pool of every replica of the {@link ReplicaDataSource}.
+     */
+    public static class DatabaseAdmissionPostProcessor implements BeanPostProcessor {
+
+        private final int permits;
+        private final Duration acquireTimeout;
+        private final Map<String, AdmissionControlDataSource> admissions = new ConcurrentHashMap<>();
+
+        public DatabaseAdmissionPostProcessor(int permits, Duration acquireTimeout) {
+            this.permits = permits;
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource primary) {
+                return admit(PRIMARY_POOL, primary, permits);
+            }
+            if (bean instanceof ReplicaDataSource replicaDataSource) {
+                replicaDataSource.wrapReplicas(replica -> replica instanceof HikariDataSource pool
+                        ? admit(pool.getPoolName(), pool, pool.getMaximumPoolSize())
+                        : replica);
+            }
+            return bean;
+        }
+
+        public Map<String, AdmissionControlDataSource> getAdmissions() {
+            return admissions;
+        }
+
+        private AdmissionControlDataSource admit(String pool, DataSource dataSource, int poolPermits) {
+            AdmissionControlDataSource admission = new AdmissionControlDataSource(dataSource, poolPermits, acquireTimeout);
+            admissions.put(pool, admission);
+            return admission;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.football_manager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football_manager.timing.ServerTimingFilter;
+import com.football_manager.timing.TimedJacksonHttpMessageConverter;
+import com.football_manager.timing.TimingSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import java.util.List;
+
+/**
+ * Server-Timing breakdown of every request, enabled with football-manager.server-timing.enabled=true.
+ * When disabled none of these beans exist and the Hibernate listener is not registered.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "football-manager.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            ObjectMapper objectMapper,
+            @Value("${football-manager.server-timing.excluded-paths:}") List<String> excludedPaths) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(objectMapper, excludedPaths));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer timingSessionEventListener() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, TimingSessionEventListener.class.getName());
+    }
+
+    @Bean
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,27 @@
+package com.football_manager.config;
+
+import com.football_manager.simulation.TransferSimulator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fork-join pool of the transfer window simulation, separate from the squad builder pool,
+ * so a long simulation never delays squad searches and the other way round.
+ */
+@Configuration
+public class SimulationConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool simulationPool(
+            @Value("${football-manager.simulation.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int parallelism) {
+        return new ForkJoinPool(parallelism);
+    }
+
+    @Bean
+    public TransferSimulator transferSimulator(@Qualifier("simulationPool") ForkJoinPool simulationPool) {
+        return new TransferSimulator(simulationPool);
+    }
+}
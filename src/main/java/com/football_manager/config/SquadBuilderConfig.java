@@ -0,0 +1,27 @@
+package com.football_manager.config;
+
+import com.football_manager.squad.SquadOptimizer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fork-join pool of the squad builder, separate from the common pool so a long search never starves
+ * parallel streams and other users of the common pool.
+ */
+@Configuration
+public class SquadBuilderConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool squadBuilderPool(
+            @Value("${football-manager.squad-builder.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int parallelism) {
+        return new ForkJoinPool(parallelism);
+    }
+
+    @Bean
+    public SquadOptimizer squadOptimizer(@Qualifier("squadBuilderPool") ForkJoinPool squadBuilderPool) {
+        return new SquadOptimizer(squadBuilderPool);
+    }
+}
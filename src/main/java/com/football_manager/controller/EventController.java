@@ -0,0 +1,40 @@
+package com.football_manager.controller;
+
+import com.football_manager.feed.ChangeFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+public class EventController {
+
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private final ChangeFeed changeFeed;
+
+    @Autowired
+    public EventController(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    /**
+     * The controller which streams team, player and transfer changes as Server-Sent Events.
+     * Reconnecting EventSource clients send Last-Event-ID, other clients can pass the after parameter.
+     *
+     * @param lastEventId {@link String} id of the last received event
+     * @param after       {@link String} same as lastEventId
+     * @return {@link SseEmitter}.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+            @RequestParam(required = false) String after) {
+        return changeFeed.subscribe(lastEventId != null ? lastEventId : after);
+    }
+}
@@ -0,0 +1,53 @@
+package com.football_manager.controller;
+
+import com.football_manager.dto.response.ImportDtoResponse;
+import com.football_manager.service.ImportFormat;
+import com.football_manager.service.ImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @Autowired
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * The controller which imports teams from NDJSON or CSV body.
+     *
+     * @param contentType {@link String}
+     * @param body        {@link InputStream}
+     * @return {@link ImportDtoResponse}.
+     */
+    @PostMapping(value = "/teams", consumes = {ImportFormat.NDJSON_MEDIA_TYPE, ImportFormat.CSV_MEDIA_TYPE})
+    public ResponseEntity<ImportDtoResponse> importTeams(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(importService.importTeams(body, ImportFormat.fromContentType(contentType)));
+    }
+
+    /**
+     * The controller which imports players from NDJSON or CSV body.
+     *
+     * @param contentType {@link String}
+     * @param body        {@link InputStream}
+     * @return {@link ImportDtoResponse}.
+     */
+    @PostMapping(value = "/players", consumes = {ImportFormat.NDJSON_MEDIA_TYPE, ImportFormat.CSV_MEDIA_TYPE})
+    public ResponseEntity<ImportDtoResponse> importPlayers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(importService.importPlayers(body, ImportFormat.fromContentType(contentType)));
+    }
+}
@@ -1,10 +1,23 @@
 package com.football_manager.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.football_manager.dto.request.PlayerDtoRequest;
+import com.football_manager.dto.request.PlayerSearchDtoRequest;
+import com.football_manager.dto.response.PlayerBatchDtoResponse;
 import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.football_manager.dto.response.PlayerValueDtoResponse;
+import com.football_manager.dto.response.TransferQuoteDtoResponse;
+import com.football_manager.dto.response.TransferRecordDtoResponse;
+import com.football_manager.service.MarketValueService;
 import com.football_manager.service.PlayerService;
+import com.football_manager.service.TransferLedgerService;
+import com.football_manager.service.TransferQuoteService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,7 +26,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -21,10 +39,20 @@ import java.util.List;
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final TransferLedgerService transferLedgerService;
+    private final TransferQuoteService transferQuoteService;
+    private final MarketValueService marketValueService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService, TransferLedgerService transferLedgerService,
+                            TransferQuoteService transferQuoteService, MarketValueService marketValueService,
+                            ObjectMapper objectMapper) {
         this.playerService = playerService;
+        this.transferLedgerService = transferLedgerService;
+        this.transferQuoteService = transferQuoteService;
+        this.marketValueService = marketValueService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -42,24 +70,126 @@ public class PlayerController {
     }
 
     /**
-     * The controller which returns all players.
+     * The controller which returns price, commission and total cost of transfer of the player to the team,
+     * without conducting it.
      *
+     * @param playerId {@link Integer}
+     * @param teamId   {@link Integer}
+     * @return {@link TransferQuoteDtoResponse}.
+     */
+    @GetMapping("/{playerId}/transfer/{teamId}/quote")
+    public ResponseEntity<TransferQuoteDtoResponse> getTransferQuote(
+            @PathVariable Integer playerId,
+            @PathVariable Integer teamId) {
+        return ResponseEntity.ok(transferQuoteService.getTransferQuote(playerId, teamId));
+    }
+
+    /**
+     * The controller which returns page of players ordered by id.
+     *
+     * Answers 304 Not Modified without a database query while the If-None-Match ETag is current.
+     *
+     * @param after   {@link Integer} id of the last player from the previous page
+     * @param limit   {@link Integer} max number of players in the page
+     * @param request {@link WebRequest}
      * @return list of {@link PlayerTeamDtoResponse}.
      */
     @GetMapping
-    public ResponseEntity<List<PlayerTeamDtoResponse>> getAllPlayers() {
-        return ResponseEntity.ok(playerService.getAllPlayers());
+    public ResponseEntity<List<PlayerTeamDtoResponse>> getPlayers(
+            @RequestParam(defaultValue = "0") Integer after,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) Integer limit,
+            WebRequest request) {
+        String eTag = playerService.getPlayersETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(playerService.getPlayers(after, limit));
+    }
+
+    /**
+     * The controller which searches players by name prefix or similar name, team, age, birth date and experience,
+     * ordered by id.
+     *
+     * @param playerSearchDtoRequest {@link PlayerSearchDtoRequest}
+     * @return list of {@link PlayerTeamDtoResponse}.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<PlayerTeamDtoResponse>> searchPlayers(@Valid PlayerSearchDtoRequest playerSearchDtoRequest) {
+        return ResponseEntity.ok(playerService.searchPlayers(playerSearchDtoRequest));
+    }
+
+    /**
+     * The controller which returns players by ids in one query, in the order of the ids, with the ids
+     * of players that do not exist.
+     *
+     * @param ids list of {@link Integer}
+     * @return {@link PlayerBatchDtoResponse}.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<PlayerBatchDtoResponse> getPlayersByIds(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(playerService.getPlayersByIds(ids));
+    }
+
+    /**
+     * The controller which returns the most valuable players, in descending order of market value.
+     *
+     * @param limit {@link Integer} max number of players
+     * @return list of {@link PlayerValueDtoResponse}.
+     */
+    @GetMapping("/most-valuable")
+    public ResponseEntity<List<PlayerValueDtoResponse>> getMostValuablePlayers(
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) Integer limit) {
+        return ResponseEntity.ok(marketValueService.getMostValuablePlayers(limit));
+    }
+
+    /**
+     * The controller which streams all players as one json array.
+     *
+     * @return {@link StreamingResponseBody}.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPlayers() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                playerService.streamAllPlayers(player -> writePlayer(generator, player));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok(body);
     }
 
     /**
      * The controller which return player by id.
+     * Answers 304 Not Modified without a database query while the If-None-Match ETag is current.
      *
-     * @param id {@link Integer}
+     * @param id      {@link Integer}
+     * @param request {@link WebRequest}
      * @return list of {@link PlayerTeamDtoResponse}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PlayerTeamDtoResponse> getPlayer(@PathVariable Integer id) {
-        return ResponseEntity.ok(playerService.getPlayer(id));
+    public ResponseEntity<PlayerTeamDtoResponse> getPlayer(@PathVariable Integer id, WebRequest request) {
+        String eTag = playerService.getPlayerETag(id);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(playerService.getPlayer(id));
+    }
+
+    /**
+     * The controller which returns page of transfers of the player, most recently recorded first.
+     *
+     * @param id     {@link Integer}
+     * @param before {@link Long} id of the last transfer from the previous page
+     * @param limit  {@link Integer} max number of transfers in the page
+     * @return list of {@link TransferRecordDtoResponse}.
+     */
+    @GetMapping("/{id}/transfers")
+    public ResponseEntity<List<TransferRecordDtoResponse>> getPlayerTransfers(
+            @PathVariable Integer id,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) Long before,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(1000) Integer limit) {
+        return ResponseEntity.ok(transferLedgerService.getPlayerTransfers(id, before, limit));
     }
 
     /**
@@ -97,4 +227,12 @@ public class PlayerController {
     public ResponseEntity<String> deletePlayer(@PathVariable Integer id) {
         return ResponseEntity.ok(playerService.deletePlayer(id));
     }
+
+    private void writePlayer(JsonGenerator generator, PlayerTeamDtoResponse player) {
+        try {
+            generator.writeObject(player);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
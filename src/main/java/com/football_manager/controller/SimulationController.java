@@ -0,0 +1,36 @@
+package com.football_manager.controller;
+
+import com.football_manager.dto.request.SimulationDtoRequest;
+import com.football_manager.service.ImportFormat;
+import com.football_manager.service.SimulationService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+@RestController
+@RequestMapping("/api/simulations")
+public class SimulationController {
+
+    private final SimulationService simulationService;
+
+    @Autowired
+    public SimulationController(SimulationService simulationService) {
+        this.simulationService = simulationService;
+    }
+
+    /**
+     * The controller which simulates the transfer window on the current teams and players and streams the results
+     * as NDJSON.
+     *
+     * @param simulationDtoRequest {@link SimulationDtoRequest}
+     * @return {@link ResponseBodyEmitter}.
+     */
+    @PostMapping(produces = ImportFormat.NDJSON_MEDIA_TYPE)
+    public ResponseBodyEmitter simulate(@Valid @RequestBody(required = false) SimulationDtoRequest simulationDtoRequest) {
+        return simulationService.simulate(simulationDtoRequest == null ? new SimulationDtoRequest() : simulationDtoRequest);
+    }
+}
@@ -0,0 +1,72 @@
+package com.football_manager.controller;
+
+import com.football_manager.cache.LeagueSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/snapshot")
+@ConditionalOnProperty(prefix = "football-manager.snapshot", name = "enabled", havingValue = "true")
+public class SnapshotController {
+
+    private static final String GZIP = "gzip";
+
+    private final LeagueSnapshot leagueSnapshot;
+
+    @Autowired
+    public SnapshotController(LeagueSnapshot leagueSnapshot) {
+        this.leagueSnapshot = leagueSnapshot;
+    }
+
+    /**
+     * The controller which returns all teams with their players from the in-memory snapshot.
+     *
+     * @param acceptEncoding {@link String}
+     * @param request        {@link WebRequest}
+     * @return serialized list of {@link com.football_manager.dto.response.TeamPlayerDtoResponse}.
+     */
+    @GetMapping("/teams")
+    public ResponseEntity<byte[]> getTeams(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        return toResponse(leagueSnapshot.getTeams(), acceptEncoding, request);
+    }
+
+    /**
+     * The controller which returns all players with their teams from the in-memory snapshot.
+     *
+     * @param acceptEncoding {@link String}
+     * @param request        {@link WebRequest}
+     * @return serialized list of {@link com.football_manager.dto.response.PlayerTeamDtoResponse}.
+     */
+    @GetMapping("/players")
+    public ResponseEntity<byte[]> getPlayers(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        return toResponse(leagueSnapshot.getPlayers(), acceptEncoding, request);
+    }
+
+    private ResponseEntity<byte[]> toResponse(LeagueSnapshot.Listing listing, String acceptEncoding, WebRequest request) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains(GZIP);
+        String eTag = gzip ? listing.getETag() + "-" + GZIP : listing.getETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(listing.getGzip());
+        }
+        return response.body(listing.getJson());
+    }
+}
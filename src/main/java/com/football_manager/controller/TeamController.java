@@ -1,10 +1,23 @@
 package com.football_manager.controller;
 
+import com.football_manager.dto.response.CacheStatsDtoResponse;
+import com.football_manager.dto.response.SquadDtoResponse;
+import com.football_manager.dto.response.SquadValueDtoResponse;
+import com.football_manager.dto.response.TeamBatchDtoResponse;
 import com.football_manager.dto.response.TeamPlayerDtoResponse;
+import com.football_manager.dto.request.SquadBuilderDtoRequest;
 import com.football_manager.dto.request.TeamDtoRequest;
 import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.dto.response.TransferQuoteDtoResponse;
+import com.football_manager.dto.response.TransferRecordDtoResponse;
+import com.football_manager.service.MarketValueService;
+import com.football_manager.service.SquadBuilderService;
 import com.football_manager.service.TeamService;
+import com.football_manager.service.TransferLedgerService;
+import com.football_manager.service.TransferQuoteService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,39 +27,183 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/teams")
 public class TeamController {
 
+    // page * size has to fit the int offset of the query with the largest page size
+    private static final int MAX_PAGE = 1_000_000;
+
     private final TeamService teamService;
+    private final TransferLedgerService transferLedgerService;
+    private final TransferQuoteService transferQuoteService;
+    private final MarketValueService marketValueService;
+    private final SquadBuilderService squadBuilderService;
 
     @Autowired
-    public TeamController(TeamService teamService) {
+    public TeamController(TeamService teamService, TransferLedgerService transferLedgerService,
+                          TransferQuoteService transferQuoteService, MarketValueService marketValueService,
+                          SquadBuilderService squadBuilderService) {
         this.teamService = teamService;
+        this.transferLedgerService = transferLedgerService;
+        this.transferQuoteService = transferQuoteService;
+        this.marketValueService = marketValueService;
+        this.squadBuilderService = squadBuilderService;
     }
 
     /**
-     * The controller which returns all teams.
+     * The controller which returns page of teams with their players.
+     * Answers 304 Not Modified without a database query while the If-None-Match ETag is current.
      *
+     * @param page    {@link Integer}
+     * @param size    {@link Integer}
+     * @param request {@link WebRequest}
      * @return list of {@link TeamPlayerDtoResponse}.
      */
     @GetMapping
-    public ResponseEntity<List<TeamPlayerDtoResponse>> getAllTeams() {
-        return ResponseEntity.ok(teamService.getAllTeams());
+    public ResponseEntity<List<TeamPlayerDtoResponse>> getTeams(
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_PAGE) Integer page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+            WebRequest request) {
+        String eTag = teamService.getTeamsETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(teamService.getTeams(page, size));
+    }
+
+    /**
+     * The controller which returns teams with their players by ids, in the order of the ids, with the ids
+     * of teams that do not exist.
+     *
+     * @param ids list of {@link Integer}
+     * @return {@link TeamBatchDtoResponse}.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<TeamBatchDtoResponse> getTeamsByIds(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(teamService.getTeamsByIds(ids));
+    }
+
+    /**
+     * The controller which returns page of teams without players.
+     * Answers 304 Not Modified without a database query while the If-None-Match ETag is current.
+     *
+     * @param page    {@link Integer}
+     * @param size    {@link Integer}
+     * @param request {@link WebRequest}
+     * @return list of {@link TeamDtoResponse}.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<TeamDtoResponse>> getTeamSummaries(
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_PAGE) Integer page,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) Integer size,
+            WebRequest request) {
+        String eTag = teamService.getTeamSummariesETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(teamService.getTeamSummaries(page, size));
+    }
+
+    /**
+     * The controller which returns team cache statistics.
+     *
+     * @return {@link CacheStatsDtoResponse}.
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsDtoResponse> getTeamCacheStats() {
+        return ResponseEntity.ok(teamService.getTeamCacheStats());
     }
 
     /**
      * The controller which return team by id.
+     * Answers 304 Not Modified without a database query while the If-None-Match ETag is current.
      *
-     * @param id {@link Integer}
+     * @param id      {@link Integer}
+     * @param request {@link WebRequest}
      * @return team {@link TeamPlayerDtoResponse}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TeamPlayerDtoResponse> getTeam(@PathVariable Integer id) {
-        return ResponseEntity.ok(teamService.getTeam(id));
+    public ResponseEntity<TeamPlayerDtoResponse> getTeam(@PathVariable Integer id, WebRequest request) {
+        String eTag = teamService.getTeamETag(id);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(teamService.getTeam(id));
+    }
+
+    /**
+     * The controller which returns page of transfers the team sold or bought, most recently recorded first.
+     *
+     * @param id     {@link Integer}
+     * @param before {@link Long} id of the last transfer from the previous page
+     * @param limit  {@link Integer} max number of transfers in the page
+     * @return list of {@link TransferRecordDtoResponse}.
+     */
+    @GetMapping("/{id}/transfers")
+    public ResponseEntity<List<TransferRecordDtoResponse>> getTeamTransfers(
+            @PathVariable Integer id,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) Long before,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(1000) Integer limit) {
+        return ResponseEntity.ok(transferLedgerService.getTeamTransfers(id, before, limit));
+    }
+
+    /**
+     * The controller which returns page of players of other teams or without team, that the team can afford now,
+     * ordered by id.
+     *
+     * @param id    {@link Integer}
+     * @param after {@link Integer} id of the last player from the previous page
+     * @param limit {@link Integer} max number of players in the page
+     * @return list of {@link TransferQuoteDtoResponse}.
+     */
+    @GetMapping("/{id}/affordable-players")
+    public ResponseEntity<List<TransferQuoteDtoResponse>> getAffordablePlayers(
+            @PathVariable Integer id,
+            @RequestParam(defaultValue = "0") Integer after,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) Integer limit) {
+        return ResponseEntity.ok(transferQuoteService.getAffordablePlayers(id, after, limit));
+    }
+
+    /**
+     * The controller which returns squad values of all teams, most valuable squad first.
+     *
+     * @return list of {@link SquadValueDtoResponse}.
+     */
+    @GetMapping("/squad-values")
+    public ResponseEntity<List<SquadValueDtoResponse>> getSquadValues() {
+        return ResponseEntity.ok(marketValueService.getSquadValues());
+    }
+
+    /**
+     * The controller which returns number of players of the team and sum of their market values.
+     *
+     * @param id {@link Integer}
+     * @return {@link SquadValueDtoResponse}.
+     */
+    @GetMapping("/{id}/squad-value")
+    public ResponseEntity<SquadValueDtoResponse> getSquadValue(@PathVariable Integer id) {
+        return ResponseEntity.ok(marketValueService.getSquadValue(id));
+    }
+
+    /**
+     * The controller which builds the squad with the most experience in total that the team can buy now.
+     *
+     * @param id                     {@link Integer}
+     * @param squadBuilderDtoRequest {@link SquadBuilderDtoRequest} optional budget, age band and max number of players
+     * @return {@link SquadDtoResponse}.
+     */
+    @PostMapping("/{id}/squad-builder")
+    public ResponseEntity<SquadDtoResponse> buildSquad(
+            @PathVariable Integer id,
+            @Valid @RequestBody(required = false) SquadBuilderDtoRequest squadBuilderDtoRequest) {
+        return ResponseEntity.ok(squadBuilderService.buildSquad(id,
+                squadBuilderDtoRequest == null ? new SquadBuilderDtoRequest() : squadBuilderDtoRequest));
     }
 
     /**
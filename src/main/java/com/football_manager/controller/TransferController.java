@@ -0,0 +1,35 @@
+package com.football_manager.controller;
+
+import com.football_manager.dto.request.TransferBatchDtoRequest;
+import com.football_manager.dto.response.TransferBatchDtoResponse;
+import com.football_manager.service.TransferService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/transfers")
+public class TransferController {
+
+    private final TransferService transferService;
+
+    @Autowired
+    public TransferController(TransferService transferService) {
+        this.transferService = transferService;
+    }
+
+    /**
+     * The controller which conducts batch of transfers.
+     *
+     * @param transferBatchDtoRequest {@link TransferBatchDtoRequest}
+     * @return {@link TransferBatchDtoResponse}.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TransferBatchDtoResponse> transferPlayers(@Valid @RequestBody TransferBatchDtoRequest transferBatchDtoRequest) {
+        return ResponseEntity.ok(transferService.transferPlayers(transferBatchDtoRequest));
+    }
+}
@@ -0,0 +1,86 @@
+package com.football_manager.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes for the client which wrote, not for the whole instance.
+ * A committed write gives its client a cookie with the end of the read-your-writes window. Requests which send
+ * the cookie back before then read from the primary, all other requests keep reading from the replicas.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "primary-reads-until";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(Duration readYourWritesWindow) {
+        this.windowMillis = readYourWritesWindow.toMillis();
+    }
+
+    /**
+     * Method get whether reads of the current request have to go to the primary.
+     *
+     * @return boolean.
+     */
+    public static boolean isPrimaryRead() {
+        return Boolean.TRUE.equals(PRIMARY_READS.get());
+    }
+
+    /**
+     * Method for send the rest of the current request and the client's requests within the window to the primary.
+     * Outside a request, e.g. in scheduled jobs, there is no client to remember, so nothing happens.
+     *
+     * @param readYourWritesWindow {@link Duration}
+     */
+    public static void startPrimaryReads(Duration readYourWritesWindow) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes) || servletAttributes.getResponse() == null) {
+            return;
+        }
+        PRIMARY_READS.set(true);
+        Cookie cookie = new Cookie(COOKIE_NAME,
+                String.valueOf(System.currentTimeMillis() + readYourWritesWindow.toMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, readYourWritesWindow.toSeconds() + 1));
+        servletAttributes.getResponse().addCookie(cookie);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PRIMARY_READS.set(isWithinWindow(WebUtils.getCookie(request, COOKIE_NAME)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    private boolean isWithinWindow(Cookie cookie) {
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            long until = Long.parseLong(cookie.getValue());
+            // A cookie reaching past the window was not given out by us, it must not pin a client to the primary.
+            return until > now && until <= now + windowMillis;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.football_manager.datasource;
+
+import com.football_manager.event.PlayerChangedEvent;
+import com.football_manager.event.TeamChangedEvent;
+import com.football_manager.event.TransferCompletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * Data source for read-only transactions.
+ * Connections are spread round-robin over the healthy replicas. The primary is used when no replica
+ * is healthy, and for the reads of a client during the read-your-writes window after its write commits
+ * (see {@link ReadYourWritesFilter}).
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration readYourWritesWindow;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicas.isEmpty() || ReadYourWritesFilter.isPrimaryRead()) {
+            return primary.getConnection();
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    markHealthy(replica, false);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * Method for validate a connection of every replica and take failed replicas out of rotation
+     * until they pass again.
+     */
+    @Scheduled(fixedDelayString = "${football-manager.datasource.routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                markHealthy(replica, connection.isValid(VALIDATION_TIMEOUT_SECONDS));
+            } catch (SQLException e) {
+                markHealthy(replica, false);
+            }
+        }
+    }
+
+    /**
+     * Method for send the writer's reads to the primary for the read-your-writes window after a transfer commits,
+     * so it does not read balances and rosters the replicas have not caught up with yet.
+     *
+     * @param event {@link TransferCompletedEvent}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransferCompleted(TransferCompletedEvent event) {
+        readFromPrimary();
+    }
+
+    /**
+     * Method for send the writer's reads to the primary for the read-your-writes window after a team change commits.
+     * The change bumps the team's ETag, so a lagging replica would serve the old team under the new ETag.
+     *
+     * @param event {@link TeamChangedEvent}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        readFromPrimary();
+    }
+
+    /**
+     * Method for send the writer's reads to the primary for the read-your-writes window after a player change commits.
+     *
+     * @param event {@link PlayerChangedEvent}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        readFromPrimary();
+    }
+
+    /**
+     * Method for wrap the connection pool of every replica, e.g. to admit connections per replica.
+     * Must be called before the data source is used.
+     *
+     * @param wrapper {@link UnaryOperator} of {@link DataSource}
+     */
+    public void wrapReplicas(UnaryOperator<DataSource> wrapper) {
+        for (Replica replica : replicas) {
+            replica.dataSource = wrapper.apply(replica.dataSource);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void readFromPrimary() {
+        ReadYourWritesFilter.startPrimaryReads(readYourWritesWindow);
+    }
+
+    private void markHealthy(Replica replica, boolean healthy) {
+        if (replica.healthy != healthy) {
+            replica.healthy = healthy;
+            if (healthy) {
+                log.info("Replica {} is back in rotation", replica.dataSource);
+            } else {
+                log.warn("Replica {} failed validation, reads fall back to other replicas or the primary", replica.dataSource);
+            }
+        }
+    }
+
+    private static class Replica {
+
+        private DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
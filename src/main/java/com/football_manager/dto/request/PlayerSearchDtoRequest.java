@@ -0,0 +1,57 @@
+package com.football_manager.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDate;
+
+@Data
+public class PlayerSearchDtoRequest {
+
+    @Size(max = 100, message = "Name cannot be longer than 100 characters.")
+    private String name;
+
+    private boolean fuzzy;
+
+    private Integer teamId;
+
+    @Min(value = 0, message = "Min age cannot be negative.")
+    @Max(value = 200, message = "Min age cannot be more than 200.")
+    private Integer minAge;
+
+    @Min(value = 0, message = "Max age cannot be negative.")
+    @Max(value = 200, message = "Max age cannot be more than 200.")
+    private Integer maxAge;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate bornFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate bornTo;
+
+    @Min(value = 0, message = "Min experience months cannot be negative.")
+    private Integer minExperienceMonths;
+
+    @Min(value = 0, message = "Max experience months cannot be negative.")
+    private Integer maxExperienceMonths;
+
+    @Min(value = 0, message = "After cannot be negative.")
+    private Integer after = 0;
+
+    @Min(value = 1, message = "Limit must be at least 1.")
+    @Max(value = 1000, message = "Limit cannot be more than 1000.")
+    private Integer limit = 100;
+
+    @AssertTrue(message = "Min age cannot be more than max age.")
+    public boolean isAgeRangeValid() {
+        return minAge == null || maxAge == null || minAge <= maxAge;
+    }
+
+    @AssertTrue(message = "Born from cannot be after born to.")
+    public boolean isBirthDateRangeValid() {
+        return bornFrom == null || bornTo == null || !bornFrom.isAfter(bornTo);
+    }
+}
@@ -0,0 +1,22 @@
+package com.football_manager.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class SimulationDtoRequest {
+
+    @NotNull(message = "Trials cannot be null.")
+    @Min(value = 1, message = "Trials must be at least 1.")
+    @Max(value = 1000000, message = "Trials cannot be more than 1000000.")
+    private Integer trials = 1000;
+
+    @NotNull(message = "Transfers per trial cannot be null.")
+    @Min(value = 1, message = "Transfers per trial must be at least 1.")
+    @Max(value = 100000, message = "Transfers per trial cannot be more than 100000.")
+    private Integer transfersPerTrial = 100;
+
+    private Long seed;
+}
@@ -0,0 +1,30 @@
+package com.football_manager.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class SquadBuilderDtoRequest {
+
+    @Positive(message = "Budget must be positive.")
+    private Double budget;
+
+    @Min(value = 1, message = "Min age must be at least 1.")
+    @Max(value = 200, message = "Min age cannot be more than 200.")
+    private Integer minAge;
+
+    @Min(value = 1, message = "Max age must be at least 1.")
+    @Max(value = 200, message = "Max age cannot be more than 200.")
+    private Integer maxAge;
+
+    @Min(value = 1, message = "Max players must be at least 1.")
+    private Integer maxPlayers;
+
+    @AssertTrue(message = "Min age cannot be more than max age.")
+    public boolean isAgeRangeValid() {
+        return minAge == null || maxAge == null || minAge <= maxAge;
+    }
+}
@@ -0,0 +1,15 @@
+package com.football_manager.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class TransferBatchDtoRequest {
+
+    @NotEmpty(message = "Transfers cannot be empty. Please provide at least one transfer.")
+    @Size(max = 5000, message = "A batch cannot contain more than 5000 transfers.")
+    private List<@Valid TransferDtoRequest> transfers;
+}
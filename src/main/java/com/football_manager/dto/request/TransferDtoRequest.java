@@ -0,0 +1,14 @@
+package com.football_manager.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class TransferDtoRequest {
+
+    @NotNull(message = "Player Id cannot be null.")
+    private Integer playerId;
+
+    @NotNull(message = "Team Id cannot be null.")
+    private Integer teamId;
+}
@@ -0,0 +1,19 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CacheStatsDtoResponse {
+
+    private Long size;
+
+    private Long hitCount;
+
+    private Long missCount;
+
+    private Double hitRate;
+
+    private Long evictionCount;
+}
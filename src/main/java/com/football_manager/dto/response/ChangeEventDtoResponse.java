@@ -0,0 +1,26 @@
+package com.football_manager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.football_manager.event.ChangeType;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEventDtoResponse {
+
+    private Long sequence;
+
+    private ChangeType change;
+
+    private Integer teamId;
+
+    private Integer playerId;
+
+    private Integer fromTeamId;
+
+    private Integer toTeamId;
+
+    private Double totalTransferCost;
+}
@@ -0,0 +1,17 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class DistributionDtoResponse {
+
+    private Double mean;
+
+    private Double stdDev;
+
+    private Double min;
+
+    private Double max;
+}
@@ -0,0 +1,16 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class ImportDtoResponse {
+
+    private Integer imported;
+
+    private Integer failed;
+
+    private List<String> errors;
+}
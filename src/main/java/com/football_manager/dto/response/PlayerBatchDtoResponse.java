@@ -0,0 +1,14 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class PlayerBatchDtoResponse {
+
+    private List<PlayerTeamDtoResponse> players;
+
+    private List<Integer> missingIds;
+}
@@ -0,0 +1,23 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PlayerValueDtoResponse {
+
+    private Integer id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private Integer age;
+
+    private Integer experienceMonths;
+
+    private Integer teamId;
+
+    private Double marketValue;
+}
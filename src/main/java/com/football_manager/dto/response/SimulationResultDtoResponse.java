@@ -0,0 +1,35 @@
+package com.football_manager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SimulationResultDtoResponse {
+
+    private SimulationResultType type;
+
+    private Long trials;
+
+    private Long completedTransfers;
+
+    private Long rejectedTransfers;
+
+    private Integer teamId;
+
+    private Double initialBalance;
+
+    private DistributionDtoResponse balance;
+
+    private Integer initialSquadSize;
+
+    private DistributionDtoResponse squadSize;
+
+    private Long seed;
+
+    private Long elapsedMs;
+
+    private Double trialsPerSecond;
+}
@@ -0,0 +1,7 @@
+package com.football_manager.dto.response;
+
+public enum SimulationResultType {
+    PROGRESS,
+    TEAM,
+    SUMMARY
+}
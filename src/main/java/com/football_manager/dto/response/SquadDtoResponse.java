@@ -0,0 +1,24 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class SquadDtoResponse {
+
+    private Integer teamId;
+
+    private Double budget;
+
+    private Double totalTransferCost;
+
+    private Long totalExperienceMonths;
+
+    private Integer candidates;
+
+    private Boolean optimal;
+
+    private List<TransferQuoteDtoResponse> players;
+}
@@ -0,0 +1,19 @@
+package com.football_manager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class SquadValueDtoResponse {
+
+    private Integer teamId;
+
+    private String teamName;
+
+    private Long players;
+
+    private Double squadValue;
+}
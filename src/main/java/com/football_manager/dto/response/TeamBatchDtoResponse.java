@@ -0,0 +1,14 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class TeamBatchDtoResponse {
+
+    private List<TeamPlayerDtoResponse> teams;
+
+    private List<Integer> missingIds;
+}
@@ -1,10 +1,12 @@
 package com.football_manager.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class TeamDtoResponse {
 
     private Integer id;
@@ -0,0 +1,16 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class TransferBatchDtoResponse {
+
+    private Integer completed;
+
+    private Integer failed;
+
+    private List<TransferDtoResponse> transfers;
+}
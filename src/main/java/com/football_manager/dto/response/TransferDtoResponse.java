@@ -0,0 +1,19 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TransferDtoResponse {
+
+    private Integer playerId;
+
+    private Integer teamId;
+
+    private TransferStatus status;
+
+    private Double totalTransferCost;
+
+    private String message;
+}
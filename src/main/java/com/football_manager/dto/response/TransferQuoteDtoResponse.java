@@ -0,0 +1,31 @@
+package com.football_manager.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TransferQuoteDtoResponse {
+
+    private Integer playerId;
+
+    private String firstName;
+
+    private String lastName;
+
+    private Integer age;
+
+    private Integer experienceMonths;
+
+    private Integer fromTeamId;
+
+    private Integer toTeamId;
+
+    private Double price;
+
+    private Double commission;
+
+    private Double totalTransferCost;
+
+    private Boolean affordable;
+}
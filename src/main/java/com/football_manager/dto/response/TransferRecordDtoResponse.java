@@ -0,0 +1,26 @@
+package com.football_manager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import java.time.Instant;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class TransferRecordDtoResponse {
+
+    private Long id;
+
+    private Integer playerId;
+
+    private Integer fromTeamId;
+
+    private Integer toTeamId;
+
+    private Double price;
+
+    private Double commission;
+
+    private Instant transferredAt;
+}
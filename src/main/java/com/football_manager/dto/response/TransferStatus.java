@@ -0,0 +1,9 @@
+package com.football_manager.dto.response;
+
+public enum TransferStatus {
+    COMPLETED,
+    PLAYER_NOT_FOUND,
+    TEAM_NOT_FOUND,
+    INSUFFICIENT_BALANCE,
+    CONFLICT
+}
@@ -1,5 +1,6 @@
 package com.football_manager.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -7,23 +8,31 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.time.Period;
 
 @Entity
 @Table(name = "players")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder(toBuilder = true)
 public class Player {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_id_seq")
+    @SequenceGenerator(name = "players_id_seq", sequenceName = "players_id_seq", allocationSize = 50)
     private Integer id;
 
     private String firstName;
@@ -38,7 +47,50 @@ public class Player {
     @JoinColumn(name = "team_id")
     private Team team;
 
+    /**
+     * Price without commission at the current age, null under one year of age.
+     */
+    private Double marketValue;
+
+    /**
+     * Date of the next birthday, when the market value has to be recalculated.
+     */
+    private LocalDate revalueOn;
+
     public Integer getAge() {
-        return Period.between(this.birthDate, LocalDate.now()).getYears();
+        return calculateAge(this.birthDate);
+    }
+
+    public static Integer calculateAge(LocalDate birthDate) {
+        return calculateAge(birthDate, LocalDate.now());
+    }
+
+    public static Integer calculateAge(LocalDate birthDate, LocalDate date) {
+        return Period.between(birthDate, date).getYears();
+    }
+
+    public static Double calculatePrice(Integer experienceMonths, Integer age) {
+        double price = (experienceMonths * 100000.0) / age;
+        return Math.round(price * 100.0) / 100.0;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void revalue() {
+        revalue(LocalDate.now());
+    }
+
+    /**
+     * Method for recalculate the market value at the age on the given date.
+     *
+     * @param date {@link LocalDate}
+     */
+    public void revalue(LocalDate date) {
+        int age = calculateAge(birthDate, date);
+        marketValue = age < 1 ? null : calculatePrice(experienceMonths, age);
+
+        // Someone born on 29 February turns a year older on 1 March in common years.
+        LocalDate nextBirthday = birthDate.plusYears(age + 1);
+        revalueOn = calculateAge(birthDate, nextBirthday) > age ? nextBirthday : nextBirthday.plusDays(1);
     }
 }
@@ -0,0 +1,24 @@
+package com.football_manager.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "transfer_ledger_position")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransferLedgerPosition {
+    public static final Integer ID = 1;
+
+    @Id
+    private Integer id;
+
+    private Long lastId;
+}
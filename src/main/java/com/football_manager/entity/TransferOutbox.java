@@ -0,0 +1,38 @@
+package com.football_manager.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+@Entity
+@Table(name = "transfer_outbox")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransferOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transfer_outbox_id_seq")
+    @SequenceGenerator(name = "transfer_outbox_id_seq", sequenceName = "transfer_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    private Integer playerId;
+
+    private Integer fromTeamId;
+
+    private Integer toTeamId;
+
+    private Double price;
+
+    private Double commission;
+
+    private Instant transferredAt;
+}
@@ -0,0 +1,33 @@
+package com.football_manager.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+@Entity
+@Table(name = "transfers")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransferRecord {
+    @Id
+    private Long id;
+
+    private Integer playerId;
+
+    private Integer fromTeamId;
+
+    private Integer toTeamId;
+
+    private Double price;
+
+    private Double commission;
+
+    private Instant transferredAt;
+}
@@ -0,0 +1,7 @@
+package com.football_manager.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,19 @@
+package com.football_manager.event;
+
+import lombok.Value;
+
+/**
+ * Published when a player is created, updated or deleted.
+ * previousTeamId and teamId are the player's team before and after the change, either can be null.
+ */
+@Value
+public class PlayerChangedEvent {
+
+    Integer playerId;
+
+    ChangeType type;
+
+    Integer previousTeamId;
+
+    Integer teamId;
+}
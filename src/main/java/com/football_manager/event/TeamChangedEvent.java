@@ -0,0 +1,14 @@
+package com.football_manager.event;
+
+import lombok.Value;
+
+/**
+ * Published when a team is created, updated or deleted.
+ */
+@Value
+public class TeamChangedEvent {
+
+    Integer teamId;
+
+    ChangeType type;
+}
@@ -0,0 +1,21 @@
+package com.football_manager.event;
+
+import lombok.Value;
+
+/**
+ * Published when a player has been transferred, fromTeamId is null for a player without team.
+ * totalTransferCost is the player price plus the commission of the buying team.
+ */
+@Value
+public class TransferCompletedEvent {
+
+    Integer playerId;
+
+    Integer fromTeamId;
+
+    Integer toTeamId;
+
+    Double totalTransferCost;
+
+    Double playerPrice;
+}
@@ -0,0 +1,8 @@
+package com.football_manager.exception;
+
+public class TooManyIdsException extends RuntimeException {
+
+    public TooManyIdsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.football_manager.exception;
+
+public class TooManySimulationsException extends RuntimeException {
+
+    public TooManySimulationsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.football_manager.exception;
+
+public class TransferConflictException extends RuntimeException {
+
+    public TransferConflictException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,9 @@ package com.football_manager.exception.handler;
 
 import com.football_manager.exception.IdNotFoundException;
 import com.football_manager.exception.InsufficientBalanceException;
+import com.football_manager.exception.TooManyIdsException;
+import com.football_manager.exception.TooManySimulationsException;
+import com.football_manager.exception.TransferConflictException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -41,6 +44,39 @@ public class RestExceptionHandler {
         return new ResponseEntity<>(exceptionResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(value = TransferConflictException.class)
+    public ResponseEntity<ExceptionResponse> handleTransferConflictException(TransferConflictException ex) {
+
+        ExceptionResponse exceptionResponse = new ExceptionResponse();
+        exceptionResponse.setErrorCode(HttpStatus.CONFLICT.value());
+        exceptionResponse.setMessage(ex.getMessage());
+        exceptionResponse.setDateTime(date.format(formatter));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(value = TooManyIdsException.class)
+    public ResponseEntity<ExceptionResponse> handleTooManyIdsException(TooManyIdsException ex) {
+
+        ExceptionResponse exceptionResponse = new ExceptionResponse();
+        exceptionResponse.setErrorCode(HttpStatus.BAD_REQUEST.value());
+        exceptionResponse.setMessage(ex.getMessage());
+        exceptionResponse.setDateTime(date.format(formatter));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(value = TooManySimulationsException.class)
+    public ResponseEntity<ExceptionResponse> handleTooManySimulationsException(TooManySimulationsException ex) {
+
+        ExceptionResponse exceptionResponse = new ExceptionResponse();
+        exceptionResponse.setErrorCode(HttpStatus.TOO_MANY_REQUESTS.value());
+        exceptionResponse.setMessage(ex.getMessage());
+        exceptionResponse.setDateTime(date.format(formatter));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,283 @@
+package com.football_manager.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.football_manager.dto.response.ChangeEventDtoResponse;
+import com.football_manager.event.PlayerChangedEvent;
+import com.football_manager.event.TeamChangedEvent;
+import com.football_manager.event.TransferCompletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feed of committed team, player and transfer changes for Server-Sent Events subscribers.
+ * Every event gets the next sequence number and is kept in a bounded replay buffer, so a client
+ * reconnecting with Last-Event-ID receives what it missed. Event ids start with an id of this instance,
+ * so ids issued before a restart or by another instance are answered with a reset, not a replay. Publishing only offers the serialized
+ * event to each subscriber's bounded queue; a virtual thread per subscriber writes it out, and a
+ * subscriber whose queue is full is disconnected instead of slowing down the committing request.
+ */
+@Slf4j
+@Component
+public class ChangeFeed {
+
+    private static final String TEAM_EVENT = "team";
+    private static final String PLAYER_EVENT = "player";
+    private static final String TRANSFER_EVENT = "transfer";
+    private static final String RESET_EVENT = "reset";
+    private static final int MAX_EVENTS_PER_FLUSH = 64;
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int replaySize;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<FeedEvent> replay = new ArrayDeque<>();
+    private final Counter slowDisconnects;
+    private long lastSequence;
+
+    @Autowired
+    public ChangeFeed(ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${football-manager.events.buffer-size:1024}") int bufferSize,
+                      @Value("${football-manager.events.replay-size:10000}") int replaySize,
+                      @Value("${football-manager.events.timeout:PT30M}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeoutMillis = timeout.toMillis();
+        Gauge.builder("events.subscribers", subscribers, Set::size)
+                .description("Connected change feed subscribers")
+                .register(meterRegistry);
+        this.slowDisconnects = Counter.builder("events.slow.disconnects")
+                .description("Change feed subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Method for subscribe to the feed.
+     * Events after lastEventId are replayed first; when some of them are no longer buffered, or the id
+     * was issued before a restart or by another instance, a reset event tells the client to reload its state instead.
+     *
+     * @param lastEventId {@link String} id of the last received event, null for live events only
+     * @return {@link SseEmitter}.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis), new ArrayBlockingQueue<>(bufferSize));
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(error -> unsubscribe(subscriber));
+
+        List<FeedEvent> missed = new ArrayList<>();
+        synchronized (this) {
+            if (lastEventId != null) {
+                Long lastSequenceSeen = parseSequence(lastEventId);
+                long oldest = replay.isEmpty() ? lastSequence + 1 : replay.getFirst().sequence;
+                if (lastSequenceSeen == null || lastSequenceSeen > lastSequence || lastSequenceSeen < oldest - 1) {
+                    missed.add(new FeedEvent(lastSequence, eventId(lastSequence), RESET_EVENT, "{}"));
+                } else {
+                    replay.stream().filter(event -> event.sequence > lastSequenceSeen).forEach(missed::add);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        Thread.ofVirtual().name("change-feed-subscriber").start(() -> deliver(subscriber, missed));
+        return subscriber.emitter;
+    }
+
+    /**
+     * Method for send a comment to every subscriber, so connections closed by the client are noticed.
+     */
+    @Scheduled(fixedDelayString = "${football-manager.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> offer(subscriber, FeedEvent.HEARTBEAT));
+    }
+
+    /**
+     * Method for end all subscriptions on shutdown, before the web server waits for active requests.
+     * Clients reconnect with their Last-Event-ID.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void close() {
+        subscribers.forEach(this::unsubscribe);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        publish(TEAM_EVENT, ChangeEventDtoResponse.builder()
+                .change(event.getType())
+                .teamId(event.getTeamId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        publish(PLAYER_EVENT, ChangeEventDtoResponse.builder()
+                .change(event.getType())
+                .playerId(event.getPlayerId())
+                .fromTeamId(event.getPreviousTeamId())
+                .toTeamId(event.getTeamId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransferCompleted(TransferCompletedEvent event) {
+        publish(TRANSFER_EVENT, ChangeEventDtoResponse.builder()
+                .playerId(event.getPlayerId())
+                .fromTeamId(event.getFromTeamId())
+                .toTeamId(event.getToTeamId())
+                .totalTransferCost(event.getTotalTransferCost()));
+    }
+
+    private synchronized void publish(String name, ChangeEventDtoResponse.ChangeEventDtoResponseBuilder builder) {
+        long sequence = ++lastSequence;
+        FeedEvent event = new FeedEvent(sequence, eventId(sequence), name, toJson(builder.sequence(sequence).build()));
+        replay.addLast(event);
+        if (replay.size() > replaySize) {
+            replay.removeFirst();
+        }
+        subscribers.forEach(subscriber -> offer(subscriber, event));
+    }
+
+    private String eventId(long sequence) {
+        return instanceId + "-" + sequence;
+    }
+
+    /**
+     * Returns the sequence of an event id issued by this instance, or null for any other id.
+     */
+    private Long parseSequence(String eventId) {
+        String prefix = instanceId + "-";
+        if (!eventId.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void offer(Subscriber subscriber, FeedEvent event) {
+        if (!subscriber.queue.offer(event)) {
+            slowDisconnects.increment();
+            log.debug("Change feed subscriber fell {} events behind, disconnecting", bufferSize);
+            unsubscribe(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            subscriber.queue.offer(FeedEvent.CLOSE);
+        }
+    }
+
+    private void deliver(Subscriber subscriber, List<FeedEvent> missed) {
+        try {
+            for (int from = 0; from < missed.size(); from += MAX_EVENTS_PER_FLUSH) {
+                send(subscriber, missed.subList(from, Math.min(from + MAX_EVENTS_PER_FLUSH, missed.size())));
+            }
+            List<FeedEvent> events = new ArrayList<>(MAX_EVENTS_PER_FLUSH);
+            while (true) {
+                events.add(subscriber.queue.take());
+                subscriber.queue.drainTo(events, MAX_EVENTS_PER_FLUSH - 1);
+                int close = events.indexOf(FeedEvent.CLOSE);
+                if (close >= 0) {
+                    send(subscriber, events.subList(0, close));
+                    subscriber.emitter.complete();
+                    return;
+                }
+                send(subscriber, events);
+                events.clear();
+            }
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(subscriber);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unsubscribe(subscriber);
+        }
+    }
+
+    /**
+     * Writes the events with a single flush.
+     */
+    private void send(Subscriber subscriber, List<FeedEvent> events) throws IOException {
+        Set<ResponseBodyEmitter.DataWithMediaType> data = new LinkedHashSet<>();
+        events.forEach(event -> data.addAll(event.toSse().build()));
+        if (!data.isEmpty()) {
+            subscriber.emitter.send(data);
+        }
+    }
+
+    private String toJson(ChangeEventDtoResponse event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<FeedEvent> queue;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<FeedEvent> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+
+    private static class FeedEvent {
+
+        private static final FeedEvent HEARTBEAT = new FeedEvent(0, null, null, null);
+        private static final FeedEvent CLOSE = new FeedEvent(0, null, null, null);
+
+        private final long sequence;
+        private final String id;
+        private final String name;
+        private final String json;
+
+        private FeedEvent(long sequence, String id, String name, String json) {
+            this.sequence = sequence;
+            this.id = id;
+            this.name = name;
+            this.json = json;
+        }
+
+        private SseEmitter.SseEventBuilder toSse() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event()
+                    .id(id)
+                    .name(name)
+                    .data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.football_manager.metrics;
+
+import com.football_manager.dto.response.TransferDtoResponse;
+import com.football_manager.dto.response.TransferStatus;
+import com.football_manager.exception.IdNotFoundException;
+import com.football_manager.exception.InsufficientBalanceException;
+import com.football_manager.exception.TransferConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Counters and timers of transfers, tagged by outcome and by mode (single transfer or batch).
+ */
+@Component
+public class TransferMetrics {
+
+    private static final String TRANSFERS = "transfers";
+    private static final String TRANSFER_DURATION = "transfer.duration";
+    private static final String TRANSFER_BATCH_DURATION = "transfer.batch.duration";
+    private static final String TRANSFER_RETRIES = "transfer.retries";
+
+    private static final String SINGLE_MODE = "single";
+    private static final String BATCH_MODE = "batch";
+
+    private static final String COMPLETED = "completed";
+    private static final String INSUFFICIENT_BALANCE = "insufficient_balance";
+    private static final String CONFLICT = "conflict";
+    private static final String NOT_FOUND = "not_found";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter retries;
+
+    @Autowired
+    public TransferMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.retries = Counter.builder(TRANSFER_RETRIES)
+                .description("Transfer attempts retried after losing a race with a concurrent transfer")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Method for start timing of a transfer or a batch of transfers.
+     *
+     * @return {@link Timer.Sample}.
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Method for record single transfer, failed ones are tagged by the exception.
+     *
+     * @param sample    {@link Timer.Sample}
+     * @param exception {@link RuntimeException} the transfer failed with, null on success
+     */
+    public void recordTransfer(Timer.Sample sample, RuntimeException exception) {
+        String outcome = outcomeOf(exception);
+        sample.stop(Timer.builder(TRANSFER_DURATION)
+                .description("Single transfers, retries included")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        transfers(SINGLE_MODE, outcome).increment();
+    }
+
+    /**
+     * Method for record batch of transfers, each transfer is counted by its status.
+     *
+     * @param sample  {@link Timer.Sample}
+     * @param results list of {@link TransferDtoResponse}
+     */
+    public void recordBatch(Timer.Sample sample, List<TransferDtoResponse> results) {
+        sample.stop(Timer.builder(TRANSFER_BATCH_DURATION)
+                .description("Batches of transfers settled in one transaction")
+                .register(meterRegistry));
+        for (TransferDtoResponse result : results) {
+            transfers(BATCH_MODE, outcomeOf(result.getStatus())).increment();
+        }
+    }
+
+    /**
+     * Method for count a retried transfer attempt.
+     */
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    private Counter transfers(String mode, String outcome) {
+        return Counter.builder(TRANSFERS)
+                .description("Transfers by outcome")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private String outcomeOf(RuntimeException exception) {
+        if (exception == null) {
+            return COMPLETED;
+        } else if (exception instanceof InsufficientBalanceException) {
+            return INSUFFICIENT_BALANCE;
+        } else if (exception instanceof TransferConflictException) {
+            return CONFLICT;
+        } else if (exception instanceof IdNotFoundException) {
+            return NOT_FOUND;
+        } else {
+            return ERROR;
+        }
+    }
+
+    private String outcomeOf(TransferStatus status) {
+        return switch (status) {
+            case COMPLETED -> COMPLETED;
+            case INSUFFICIENT_BALANCE -> INSUFFICIENT_BALANCE;
+            case CONFLICT -> CONFLICT;
+            case PLAYER_NOT_FOUND, TEAM_NOT_FOUND -> NOT_FOUND;
+        };
+    }
+}
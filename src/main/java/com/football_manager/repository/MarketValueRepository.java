@@ -0,0 +1,97 @@
+package com.football_manager.repository;
+
+import com.football_manager.dto.response.PlayerValueDtoResponse;
+import com.football_manager.dto.response.SquadValueDtoResponse;
+import com.football_manager.entity.Player;
+import com.football_manager.timing.RequestTimings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+public class MarketValueRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Method for recalculate the market value of players whose next birthday is due on the given date,
+     * earliest due first. The persistence context is cleared afterwards.
+     *
+     * @param today {@link LocalDate}
+     * @param limit {@link Integer}
+     * @return {@link Integer} number of revalued players.
+     */
+    public Integer revalueDuePlayers(LocalDate today, Integer limit) {
+        List<Player> players = entityManager.createQuery(
+                        "SELECT p FROM Player p WHERE p.revalueOn <= :today ORDER BY p.revalueOn, p.id", Player.class)
+                .setParameter("today", today)
+                .setMaxResults(limit)
+                .getResultList();
+        players.forEach(player -> player.revalue(today));
+        entityManager.flush();
+        entityManager.clear();
+        return players.size();
+    }
+
+    /**
+     * Method get the most valuable players, in descending order of market value.
+     *
+     * @param limit {@link Integer}
+     * @return list of {@link PlayerValueDtoResponse}.
+     */
+    public List<PlayerValueDtoResponse> getMostValuablePlayers(Integer limit) {
+        List<Object[]> rows = entityManager.createQuery("SELECT p.id, p.firstName, p.lastName, p.birthDate, "
+                        + "p.experienceMonths, p.team.id, p.marketValue FROM Player p "
+                        + "WHERE p.marketValue IS NOT NULL ORDER BY p.marketValue DESC, p.id", Object[].class)
+                .setMaxResults(limit)
+                .getResultList();
+        return RequestTimings.measureMapping(() -> rows.stream()
+                .map(row -> PlayerValueDtoResponse.builder()
+                        .id((Integer) row[0])
+                        .firstName((String) row[1])
+                        .lastName((String) row[2])
+                        .age(Player.calculateAge((LocalDate) row[3]))
+                        .experienceMonths((Integer) row[4])
+                        .teamId((Integer) row[5])
+                        .marketValue((Double) row[6])
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Method get optional squad value of the team: number of players and sum of their market values.
+     *
+     * @param teamId {@link Integer}
+     * @return {@link SquadValueDtoResponse}.
+     */
+    public Optional<SquadValueDtoResponse> getSquadValue(Integer teamId) {
+        // Aggregated from idx_players_team_market_value alone, then joined to the one team row.
+        return entityManager.createQuery("SELECT new com.football_manager.dto.response.SquadValueDtoResponse("
+                        + "t.id, t.name, "
+                        + "(SELECT count(*) FROM Player p WHERE p.team.id = t.id), "
+                        + "(SELECT coalesce(sum(p.marketValue), 0.0) FROM Player p WHERE p.team.id = t.id)) "
+                        + "FROM Team t WHERE t.id = :teamId", SquadValueDtoResponse.class)
+                .setParameter("teamId", teamId)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Method get squad values of all teams, most valuable squad first.
+     *
+     * @return list of {@link SquadValueDtoResponse}.
+     */
+    public List<SquadValueDtoResponse> getSquadValues() {
+        return entityManager.createQuery("SELECT new com.football_manager.dto.response.SquadValueDtoResponse("
+                        + "t.id, t.name, count(p.team.id), coalesce(sum(p.marketValue), 0.0)) "
+                        + "FROM Team t LEFT JOIN Player p ON p.team.id = t.id "
+                        + "GROUP BY t.id, t.name ORDER BY coalesce(sum(p.marketValue), 0.0) DESC, t.id", SquadValueDtoResponse.class)
+                .getResultList();
+    }
+}
@@ -1,11 +1,26 @@
 package com.football_manager.repository;
 
+import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.football_manager.dto.response.TeamDtoResponse;
 import com.football_manager.entity.Player;
+import com.football_manager.entity.Team;
+import com.football_manager.timing.RequestTimings;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class PlayerRepository {
@@ -13,14 +28,144 @@ public class PlayerRepository {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String PLAYER_SUMMARY_QUERY = "SELECT p.id AS id, p.firstName AS firstName, p.lastName AS lastName, "
+            + "p.birthDate AS birthDate, p.experienceMonths AS experienceMonths, t.id AS teamId, t.name AS teamName, "
+            + "t.balance AS teamBalance, t.commissionPercentage AS teamCommissionPercentage "
+            + "FROM Player p LEFT JOIN p.team t ";
+
     /**
-     * Method get all teams.
+     * Method get page of players with their teams ordered by id, starting after the given id.
+     * Rows are projected straight into responses, no entities are loaded.
      *
-     * @return list of {@link Player}.
+     * @param after {@link Integer}
+     * @param limit {@link Integer}
+     * @return list of {@link PlayerTeamDtoResponse}.
      */
-    public List<Player> getAllPlayers() {
-        return entityManager.createQuery("SELECT p from Player p LEFT JOIN FETCH p.team", Player.class)
+    public List<PlayerTeamDtoResponse> getPlayersAfter(Integer after, Integer limit) {
+        List<Tuple> rows = entityManager.createQuery(PLAYER_SUMMARY_QUERY + "WHERE p.id > :after ORDER BY p.id", Tuple.class)
+                .setParameter("after", after)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .getResultList();
+        return RequestTimings.measureMapping(() -> rows.stream()
+                .map(this::mapToPlayerTeamDto)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Method stream all players with their teams ordered by id through a forward-only cursor.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     *
+     * @return stream of {@link PlayerTeamDtoResponse}.
+     */
+    public Stream<PlayerTeamDtoResponse> streamAllPlayers() {
+        return entityManager.createQuery(PLAYER_SUMMARY_QUERY + "ORDER BY p.id", Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(this::mapToPlayerTeamDto);
+    }
+
+    /**
+     * Method search page of players with their teams ordered by id, starting after the given id.
+     * Every name term has to match the start of the first or last name, ignoring case, or with fuzzy
+     * be similar to one of them. Null filters are not applied.
+     *
+     * @param nameTerms           list of {@link String} lower case name terms
+     * @param fuzzy               boolean
+     * @param teamId              {@link Integer}
+     * @param bornFrom            {@link LocalDate} inclusive
+     * @param bornTo              {@link LocalDate} inclusive
+     * @param minExperienceMonths {@link Integer}
+     * @param maxExperienceMonths {@link Integer}
+     * @param after               {@link Integer}
+     * @param limit               {@link Integer}
+     * @return list of {@link PlayerTeamDtoResponse}.
+     */
+    public List<PlayerTeamDtoResponse> searchPlayers(List<String> nameTerms, boolean fuzzy, Integer teamId,
+                                                     LocalDate bornFrom, LocalDate bornTo,
+                                                     Integer minExperienceMonths, Integer maxExperienceMonths,
+                                                     Integer after, Integer limit) {
+        StringBuilder query = new StringBuilder(PLAYER_SUMMARY_QUERY).append("WHERE p.id > :after");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("after", after);
+        for (int i = 0; i < nameTerms.size(); i++) {
+            String parameter = "name" + i;
+            if (fuzzy) {
+                query.append(String.format(" AND (%1$s(lower(p.firstName), :%2$s) OR %1$s(lower(p.lastName), :%2$s))",
+                        PlayerSearchFunctions.NAME_MATCHES, parameter));
+                parameters.put(parameter, nameTerms.get(i));
+            } else {
+                query.append(" AND (lower(p.firstName) LIKE :").append(parameter)
+                        .append(" OR lower(p.lastName) LIKE :").append(parameter).append(")");
+                parameters.put(parameter, escapeLike(nameTerms.get(i)) + "%");
+            }
+        }
+        if (teamId != null) {
+            query.append(" AND p.team.id = :teamId");
+            parameters.put("teamId", teamId);
+        }
+        if (bornFrom != null) {
+            query.append(" AND p.birthDate >= :bornFrom");
+            parameters.put("bornFrom", bornFrom);
+        }
+        if (bornTo != null) {
+            query.append(" AND p.birthDate <= :bornTo");
+            parameters.put("bornTo", bornTo);
+        }
+        if (minExperienceMonths != null) {
+            query.append(" AND p.experienceMonths >= :minExperienceMonths");
+            parameters.put("minExperienceMonths", minExperienceMonths);
+        }
+        if (maxExperienceMonths != null) {
+            query.append(" AND p.experienceMonths <= :maxExperienceMonths");
+            parameters.put("maxExperienceMonths", maxExperienceMonths);
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query.append(" ORDER BY p.id").toString(), Tuple.class)
+                .setMaxResults(limit);
+        parameters.forEach(typedQuery::setParameter);
+        List<Tuple> rows = typedQuery.getResultList();
+        return RequestTimings.measureMapping(() -> rows.stream()
+                .map(this::mapToPlayerTeamDto)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Method get optional player with team by id, projected straight into response.
+     *
+     * @param id {@link Integer}
+     * @return {@link PlayerTeamDtoResponse}.
+     */
+    public Optional<PlayerTeamDtoResponse> getPlayerSummaryById(Integer id) {
+        List<Tuple> rows = entityManager.createQuery(PLAYER_SUMMARY_QUERY + "WHERE p.id = :id", Tuple.class)
+                .setParameter("id", id)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+        return RequestTimings.measureMapping(() -> rows.stream()
+                .findFirst()
+                .map(this::mapToPlayerTeamDto));
+    }
+
+    /**
+     * Method get players with their teams by ids ordered by id, projected straight into responses.
+     *
+     * @param ids collection of {@link Integer}
+     * @return list of {@link PlayerTeamDtoResponse}, players that do not exist are absent.
+     */
+    public List<PlayerTeamDtoResponse> getPlayerSummariesByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Tuple> rows = entityManager.createQuery(PLAYER_SUMMARY_QUERY + "WHERE p.id IN :ids ORDER BY p.id", Tuple.class)
+                .setParameter("ids", ids)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+        return RequestTimings.measureMapping(() -> rows.stream()
+                .map(this::mapToPlayerTeamDto)
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -30,11 +175,82 @@ public class PlayerRepository {
      * @return {@link Player}.
      */
     public Optional<Player> getPlayerById(Integer id) {
-        List<Player> results = entityManager.createQuery("SELECT p FROM Player p WHERE p.id = :id", Player.class)
-                .setParameter("id", id)
+        return Optional.ofNullable(entityManager.find(Player.class, id));
+    }
+
+    /**
+     * Method get current team id of each player by player ids.
+     *
+     * @param ids collection of {@link Integer}
+     * @return map of player id to team id, team id is null for players without team.
+     */
+    public Map<Integer, Integer> getTeamIdsByPlayerIds(Collection<Integer> ids) {
+        Map<Integer, Integer> teamIds = new HashMap<>();
+        entityManager.createQuery("SELECT p.id, t.id FROM Player p LEFT JOIN p.team t WHERE p.id IN :ids", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(row -> teamIds.put((Integer) row[0], (Integer) row[1]));
+        return teamIds;
+    }
+
+    /**
+     * Method get players by ids.
+     *
+     * @param ids collection of {@link Integer}
+     * @return list of {@link Player}.
+     */
+    public List<Player> getPlayersByIds(Collection<Integer> ids) {
+        return entityManager.createQuery("SELECT p FROM Player p WHERE p.id IN :ids ORDER BY p.id", Player.class)
+                .setParameter("ids", ids)
                 .getResultList();
+    }
+
+    /**
+     * Method stream id, birth date and experience of players with experience who are not in the team and were born
+     * in the given period, through a forward-only cursor. No entities are loaded.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     *
+     * @param teamId         {@link Integer}
+     * @param bornAfter      {@link LocalDate}
+     * @param bornOnOrBefore {@link LocalDate}
+     * @return stream of rows of {@link Integer}, {@link LocalDate} and {@link Integer}.
+     */
+    public Stream<Object[]> streamTransferCandidates(Integer teamId, LocalDate bornAfter, LocalDate bornOnOrBefore) {
+        return entityManager.createQuery("SELECT p.id, p.birthDate, p.experienceMonths FROM Player p "
+                        + "WHERE (p.team IS NULL OR p.team.id <> :teamId) AND p.experienceMonths > 0 "
+                        + "AND p.birthDate > :bornAfter AND p.birthDate <= :bornOnOrBefore", Object[].class)
+                .setParameter("teamId", teamId)
+                .setParameter("bornAfter", bornAfter)
+                .setParameter("bornOnOrBefore", bornOnOrBefore)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Method stream id, team id, birth date and experience of all players ordered by id, through a forward-only cursor.
+     * No entities are loaded. The stream must be consumed inside a transaction and closed afterwards.
+     *
+     * @return stream of rows of {@link Integer}, {@link Integer}, {@link LocalDate} and {@link Integer}.
+     */
+    public Stream<Object[]> streamPlayerPricing() {
+        return entityManager.createQuery("SELECT p.id, p.team.id, p.birthDate, p.experienceMonths FROM Player p ORDER BY p.id", Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
 
-        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    /**
+     * Method get players by ids and lock them for update, in ascending id order.
+     *
+     * @param ids collection of {@link Integer}
+     * @return list of {@link Player}.
+     */
+    public List<Player> getPlayersByIdsForUpdate(Collection<Integer> ids) {
+        return entityManager.createQuery("SELECT p FROM Player p WHERE p.id IN :ids ORDER BY p.id", Player.class)
+                .setParameter("ids", ids)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
     }
 
     /**
@@ -48,6 +264,19 @@ public class PlayerRepository {
         return player;
     }
 
+    /**
+     * Method for create new players in one JDBC batch.
+     * The persistence context is cleared afterwards, so saved players become detached.
+     *
+     * @param players list of {@link Player}
+     */
+    public void savePlayers(List<Player> players) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(players.size());
+        players.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
     /**
      * Method for update player.
      *
@@ -58,6 +287,37 @@ public class PlayerRepository {
         return entityManager.merge(player);
     }
 
+    /**
+     * Method for move player to another team, only if the player still belongs to the expected team.
+     *
+     * @param player   {@link Player}
+     * @param fromTeam {@link Team} expected current team, may be null
+     * @param toTeam   {@link Team}
+     * @return {@link Integer} number of updated players.
+     */
+    public Integer moveToTeam(Player player, Team fromTeam, Team toTeam) {
+        if (fromTeam == null) {
+            return entityManager.createQuery("UPDATE Player p SET p.team = :toTeam WHERE p.id = :id AND p.team IS NULL")
+                    .setParameter("id", player.getId())
+                    .setParameter("toTeam", toTeam)
+                    .executeUpdate();
+        }
+        return entityManager.createQuery("UPDATE Player p SET p.team = :toTeam WHERE p.id = :id AND p.team.id = :fromTeamId")
+                .setParameter("id", player.getId())
+                .setParameter("fromTeamId", fromTeam.getId())
+                .setParameter("toTeam", toTeam)
+                .executeUpdate();
+    }
+
+    /**
+     * Method for reload player state from the database.
+     *
+     * @param player {@link Player}
+     */
+    public void refreshPlayer(Player player) {
+        entityManager.refresh(player);
+    }
+
     /**
      * Method for delete player by id.
      *
@@ -69,4 +329,26 @@ public class PlayerRepository {
                 .setParameter("id", id)
                 .executeUpdate();
     }
+
+    private String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private PlayerTeamDtoResponse mapToPlayerTeamDto(Tuple row) {
+        Integer teamId = row.get("teamId", Integer.class);
+        TeamDtoResponse team = teamId == null ? null : new TeamDtoResponse(
+                teamId,
+                row.get("teamName", String.class),
+                row.get("teamBalance", Double.class),
+                row.get("teamCommissionPercentage", Double.class));
+
+        return PlayerTeamDtoResponse.builder()
+                .id(row.get("id", Integer.class))
+                .firstName(row.get("firstName", String.class))
+                .lastName(row.get("lastName", String.class))
+                .age(Player.calculateAge(row.get("birthDate", LocalDate.class)))
+                .experienceMonths(row.get("experienceMonths", Integer.class))
+                .team(team)
+                .build();
+    }
 }
@@ -0,0 +1,29 @@
+package com.football_manager.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the HQL function {@code name_matches(name, term)}, true when the name is similar to the search term.
+ * On PostgreSQL it is the pg_trgm word similarity operator, answered from the trigram indexes on player names.
+ * Other databases, H2 in tests, compare SOUNDEX codes without an index.
+ */
+public class PlayerSearchFunctions implements FunctionContributor {
+
+    static final String NAME_MATCHES = "name_matches";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        String pattern = functionContributions.getDialect() instanceof PostgreSQLDialect
+                ? "(?2 <% ?1)"
+                : "(SOUNDEX(?1) = SOUNDEX(?2))";
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(NAME_MATCHES, pattern)
+                .setExactArgumentCount(2)
+                .setInvariantType(functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN))
+                .register();
+    }
+}
@@ -1,11 +1,24 @@
 package com.football_manager.repository;
 
+import com.football_manager.dto.response.PlayerResponse;
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.entity.Player;
 import com.football_manager.entity.Team;
+import com.football_manager.timing.RequestTimings;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class TeamRepository {
@@ -13,16 +26,120 @@ public class TeamRepository {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String TEAM_SUMMARY_QUERY = "SELECT new com.football_manager.dto.response.TeamDtoResponse("
+            + "t.id, t.name, t.balance, t.commissionPercentage) FROM Team t ";
+
     /**
-     * Method get all teams.
+     * Method get page of teams ordered by id, without players.
+     * Rows are projected straight into responses, no entities are loaded.
      *
-     * @return list of {@link Team}.
+     * @param page {@link Integer}
+     * @param size {@link Integer}
+     * @return list of {@link TeamDtoResponse}.
+     */
+    public List<TeamDtoResponse> getTeams(Integer page, Integer size) {
+        return entityManager.createQuery(TEAM_SUMMARY_QUERY + "ORDER BY t.id", TeamDtoResponse.class)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+    }
+
+    /**
+     * Method stream all teams without players ordered by id.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     *
+     * @return stream of {@link TeamDtoResponse}.
+     */
+    public Stream<TeamDtoResponse> streamAllTeamSummaries() {
+        return entityManager.createQuery(TEAM_SUMMARY_QUERY + "ORDER BY t.id", TeamDtoResponse.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    /**
+     * Method get page of team ids ordered by id.
+     *
+     * @param page {@link Integer}
+     * @param size {@link Integer}
+     * @return list of {@link Integer}.
      */
-    public List<Team> getAllTeams() {
-        return entityManager.createQuery("SELECT t FROM Team t LEFT JOIN FETCH t.players", Team.class)
+    public List<Integer> getTeamIds(Integer page, Integer size) {
+        return entityManager.createQuery("SELECT t.id FROM Team t ORDER BY t.id", Integer.class)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .getResultList();
     }
 
+    /**
+     * Method get page of team ids ordered by id (keyset pagination).
+     *
+     * @param after {@link Integer} id of the last team from the previous page
+     * @param limit {@link Integer} max number of ids in the page
+     * @return list of {@link Integer}.
+     */
+    public List<Integer> getTeamIdsAfter(Integer after, Integer limit) {
+        return entityManager.createQuery("SELECT t.id FROM Team t WHERE t.id > :after ORDER BY t.id", Integer.class)
+                .setParameter("after", after)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Method get teams by ids ordered by id, without players.
+     *
+     * @param ids list of {@link Integer}
+     * @return list of {@link TeamDtoResponse}.
+     */
+    public List<TeamDtoResponse> getTeamsByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(TEAM_SUMMARY_QUERY + "WHERE t.id IN :ids ORDER BY t.id", TeamDtoResponse.class)
+                .setParameter("ids", ids)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+    }
+
+    /**
+     * Method get optional team by id without players, projected straight into response.
+     *
+     * @param id {@link Integer}
+     * @return {@link TeamDtoResponse}.
+     */
+    public Optional<TeamDtoResponse> getTeamSummaryById(Integer id) {
+        return entityManager.createQuery(TEAM_SUMMARY_QUERY + "WHERE t.id = :id", TeamDtoResponse.class)
+                .setParameter("id", id)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Method get players of the teams by team ids, ordered by player id.
+     *
+     * @param ids list of {@link Integer}
+     * @return map of team id to list of {@link PlayerResponse}, teams without players are absent.
+     */
+    public Map<Integer, List<PlayerResponse>> getRosters(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = entityManager.createQuery("SELECT p.team.id AS teamId, p.id AS id, p.firstName AS firstName, p.lastName AS lastName, "
+                        + "p.birthDate AS birthDate, p.experienceMonths AS experienceMonths "
+                        + "FROM Player p WHERE p.team.id IN :ids ORDER BY p.id", Tuple.class)
+                .setParameter("ids", ids)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+        return RequestTimings.measureMapping(() -> rows.stream()
+                .collect(Collectors.groupingBy(row -> row.get("teamId", Integer.class),
+                        Collectors.mapping(this::mapToPlayerDto, Collectors.toList()))));
+    }
+
     /**
      * Method get optional team by id.
      *
@@ -30,11 +147,33 @@ public class TeamRepository {
      * @return {@link Team}.
      */
     public Optional<Team> getTeamById(Integer id) {
-        List<Team> results = entityManager.createQuery("SELECT t FROM Team t WHERE t.id = :id", Team.class)
-                .setParameter("id", id)
+        return Optional.ofNullable(entityManager.find(Team.class, id));
+    }
+
+    /**
+     * Method get teams by ids and lock them for update, in ascending id order.
+     *
+     * @param ids collection of {@link Integer}
+     * @return list of {@link Team}.
+     */
+    public List<Team> getTeamsByIdsForUpdate(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery("SELECT t FROM Team t WHERE t.id IN :ids ORDER BY t.id", Team.class)
+                .setParameter("ids", ids)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .getResultList();
+    }
 
-        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    /**
+     * Method get team reference by id without loading its state.
+     *
+     * @param id {@link Integer}
+     * @return {@link Team}.
+     */
+    public Team getTeamReference(Integer id) {
+        return entityManager.getReference(Team.class, id);
     }
 
     /**
@@ -48,6 +187,19 @@ public class TeamRepository {
         return team;
     }
 
+    /**
+     * Method for create new teams in one JDBC batch.
+     * The persistence context is cleared afterwards, so saved teams become detached.
+     *
+     * @param teams list of {@link Team}
+     */
+    public void saveTeams(List<Team> teams) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(teams.size());
+        teams.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
     /**
      * Method for update team.
      *
@@ -58,15 +210,74 @@ public class TeamRepository {
         return entityManager.merge(team);
     }
 
+    /**
+     * Method for withdraw amount from team balance, only if the balance covers it.
+     *
+     * @param id     {@link Integer}
+     * @param amount {@link Double}
+     * @return {@link Integer} number of updated teams.
+     */
+    public Integer debitBalance(Integer id, Double amount) {
+        return entityManager.createQuery("UPDATE Team t SET t.balance = t.balance - :amount WHERE t.id = :id AND t.balance >= :amount")
+                .setParameter("id", id)
+                .setParameter("amount", amount)
+                .executeUpdate();
+    }
+
+    /**
+     * Method for add amount to team balance.
+     *
+     * @param id     {@link Integer}
+     * @param amount {@link Double}
+     * @return {@link Integer} number of updated teams.
+     */
+    public Integer creditBalance(Integer id, Double amount) {
+        return entityManager.createQuery("UPDATE Team t SET t.balance = t.balance + :amount WHERE t.id = :id")
+                .setParameter("id", id)
+                .setParameter("amount", amount)
+                .executeUpdate();
+    }
+
+    /**
+     * Method for reload team state from the database.
+     *
+     * @param team {@link Team}
+     */
+    public void refreshTeam(Team team) {
+        entityManager.refresh(team);
+    }
+
     /**
      * Method for delete team by id.
+     * Players of the team are released explicitly rather than by the ON DELETE SET NULL constraint,
+     * so Hibernate evicts cached players together with the cached team.
      *
      * @param id {@link Integer}
      * @return {@link Integer}.
      */
     public Integer deleteTeam(Integer id) {
+        entityManager.createQuery("UPDATE Player p SET p.team = null WHERE p.team.id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
         return entityManager.createQuery("DELETE FROM Team t WHERE t.id = :id")
                 .setParameter("id", id)
                 .executeUpdate();
     }
+
+    /**
+     * Method for detach everything loaded so far from the persistence context.
+     */
+    public void clear() {
+        entityManager.clear();
+    }
+
+    private PlayerResponse mapToPlayerDto(Tuple row) {
+        return PlayerResponse.builder()
+                .id(row.get("id", Integer.class))
+                .firstName(row.get("firstName", String.class))
+                .lastName(row.get("lastName", String.class))
+                .age(Player.calculateAge(row.get("birthDate", LocalDate.class)))
+                .experienceMonths(row.get("experienceMonths", Integer.class))
+                .build();
+    }
 }
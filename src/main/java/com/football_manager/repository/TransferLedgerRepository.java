@@ -0,0 +1,134 @@
+package com.football_manager.repository;
+
+import com.football_manager.dto.response.TransferRecordDtoResponse;
+import com.football_manager.entity.TransferLedgerPosition;
+import com.football_manager.entity.TransferOutbox;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.stereotype.Repository;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+public class TransferLedgerRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final String TRANSFER_RECORD_QUERY = "SELECT new com.football_manager.dto.response.TransferRecordDtoResponse("
+            + "r.id, r.playerId, r.fromTeamId, r.toTeamId, r.price, r.commission, r.transferredAt) FROM TransferRecord r ";
+
+    /**
+     * Method for save transfer to the outbox.
+     *
+     * @param transfer {@link TransferOutbox}
+     */
+    public void saveToOutbox(TransferOutbox transfer) {
+        entityManager.persist(transfer);
+    }
+
+    /**
+     * Method get position of the ledger and lock it until the end of the transaction.
+     * Drainers wait for each other here, so batches reach the ledger one after another.
+     *
+     * @return {@link TransferLedgerPosition}.
+     */
+    public TransferLedgerPosition lockLedgerPosition() {
+        return entityManager.find(TransferLedgerPosition.class, TransferLedgerPosition.ID, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    /**
+     * Method get ids of the oldest outbox transfers and lock them.
+     * Transfers locked by another drainer are skipped.
+     *
+     * @param limit {@link Integer}
+     * @return list of {@link Long}.
+     */
+    public List<Long> lockOutboxIds(Integer limit) {
+        return entityManager.createQuery("SELECT o FROM TransferOutbox o ORDER BY o.id", TransferOutbox.class)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(SpecHints.HINT_SPEC_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .getResultList()
+                .stream()
+                .map(TransferOutbox::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Method for move outbox transfers to the ledger with one insert and one delete statement.
+     * Ledger ids continue from the locked position in outbox id order, so a transfer drained later
+     * always gets a higher id than every transfer already in the ledger.
+     *
+     * @param position {@link TransferLedgerPosition} locked by {@link #lockLedgerPosition()}
+     * @param ids      list of {@link Long}
+     * @return {@link Integer} number of moved transfers.
+     */
+    public Integer moveToLedger(TransferLedgerPosition position, List<Long> ids) {
+        int moved = entityManager.createQuery("INSERT INTO TransferRecord (id, playerId, fromTeamId, toTeamId, price, commission, transferredAt) "
+                        + "SELECT :lastId + row_number() OVER (ORDER BY o.id), o.playerId, o.fromTeamId, o.toTeamId, o.price, o.commission, o.transferredAt "
+                        + "FROM TransferOutbox o WHERE o.id IN :ids")
+                .setParameter("lastId", position.getLastId())
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery("DELETE FROM TransferOutbox o WHERE o.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        position.setLastId(position.getLastId() + moved);
+        return moved;
+    }
+
+    /**
+     * Method get number of transfers waiting in the outbox.
+     *
+     * @return {@link Long}.
+     */
+    public Long countOutbox() {
+        return entityManager.createQuery("SELECT COUNT(o) FROM TransferOutbox o", Long.class)
+                .getSingleResult();
+    }
+
+    /**
+     * Method get page of transfers of the player, most recently recorded first (keyset pagination).
+     *
+     * @param playerId {@link Integer}
+     * @param before   {@link Long} id of the last transfer from the previous page
+     * @param limit    {@link Integer}
+     * @return list of {@link TransferRecordDtoResponse}.
+     */
+    public List<TransferRecordDtoResponse> getPlayerTransfers(Integer playerId, Long before, Integer limit) {
+        return getTransfers("r.playerId", playerId, before, limit);
+    }
+
+    /**
+     * Method get page of transfers the team sold or bought, most recently recorded first (keyset pagination).
+     * Each side is read from its own index and the two pages are merged.
+     *
+     * @param teamId {@link Integer}
+     * @param before {@link Long} id of the last transfer from the previous page
+     * @param limit  {@link Integer}
+     * @return list of {@link TransferRecordDtoResponse}.
+     */
+    public List<TransferRecordDtoResponse> getTeamTransfers(Integer teamId, Long before, Integer limit) {
+        return Stream.concat(getTransfers("r.fromTeamId", teamId, before, limit).stream(),
+                        getTransfers("r.toTeamId", teamId, before, limit).stream())
+                .sorted(Comparator.comparing(TransferRecordDtoResponse::getId).reversed())
+                .distinct()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private List<TransferRecordDtoResponse> getTransfers(String column, Integer id, Long before, Integer limit) {
+        return entityManager.createQuery(TRANSFER_RECORD_QUERY + "WHERE " + column + " = :id AND r.id < :before ORDER BY r.id DESC",
+                        TransferRecordDtoResponse.class)
+                .setParameter("id", id)
+                .setParameter("before", before)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
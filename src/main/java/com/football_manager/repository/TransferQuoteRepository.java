@@ -0,0 +1,148 @@
+package com.football_manager.repository;
+
+import com.football_manager.dto.response.TransferQuoteDtoResponse;
+import com.football_manager.entity.Player;
+import com.football_manager.timing.RequestTimings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transfer prices evaluated in the database, with the formula of
+ * {@link com.football_manager.service.PlayerService#calculateTotalTransferCost(Player, Double)}.
+ * The age in full years is computed from the birth date and the given date, as {@link Player#calculateAge} does.
+ */
+@Repository
+public class TransferQuoteRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final String AGE = "(:year - year(p.birthDate) - CASE WHEN month(p.birthDate) > :month "
+            + "OR (month(p.birthDate) = :month AND day(p.birthDate) > :day) THEN 1 ELSE 0 END)";
+
+    private static final String PRICE = "(p.experienceMonths * 100000.0 / " + AGE + ")";
+
+    private static final String TOTAL = "(" + PRICE + " * (1 + t.commissionPercentage / 100.0))";
+
+    private static final String QUOTE_QUERY = "SELECT p.id, p.firstName, p.lastName, p.birthDate, p.experienceMonths, "
+            + "p.team.id, t.id, round(" + PRICE + ", 2), round(" + TOTAL + ", 2), t.balance "
+            + "FROM Player p JOIN Team t ON t.id = :teamId "
+            + "WHERE p.id = :playerId";
+
+    // Reads only columns of idx_players_transfer_price, so the scan in id order needs no table access.
+    // The price depends on today's date and cannot be indexed, so the budget is checked for every scanned row:
+    // the fewer players a team can afford, the more rows are scanned per page.
+    private static final String AFFORDABLE_QUERY = "SELECT p.id, round(" + PRICE + ", 2), round(" + TOTAL + ", 2) "
+            + "FROM Player p JOIN Team t ON t.id = :teamId "
+            + "WHERE p.id > :after AND p.birthDate <= :adultBirthDate AND (p.team IS NULL OR p.team.id <> t.id) "
+            + "AND round(" + TOTAL + ", 2) <= t.balance "
+            + "ORDER BY p.id";
+
+    /**
+     * Method get optional quote for transfer of the player to the team on the given date.
+     * Empty if the player or the team does not exist.
+     *
+     * @param playerId {@link Integer}
+     * @param teamId   {@link Integer}
+     * @param today    {@link LocalDate}
+     * @return {@link TransferQuoteDtoResponse}.
+     */
+    public Optional<TransferQuoteDtoResponse> getTransferQuote(Integer playerId, Integer teamId, LocalDate today) {
+        List<Object[]> rows = withToday(entityManager.createQuery(QUOTE_QUERY, Object[].class), today)
+                .setParameter("playerId", playerId)
+                .setParameter("teamId", teamId)
+                .getResultList();
+        return RequestTimings.measureMapping(() -> rows.stream()
+                .findFirst()
+                .map(row -> {
+                    Double price = toDouble(row[7]);
+                    Double totalTransferCost = toDouble(row[8]);
+                    return TransferQuoteDtoResponse.builder()
+                            .playerId((Integer) row[0])
+                            .firstName((String) row[1])
+                            .lastName((String) row[2])
+                            .age(Player.calculateAge((LocalDate) row[3]))
+                            .experienceMonths((Integer) row[4])
+                            .fromTeamId((Integer) row[5])
+                            .toTeamId((Integer) row[6])
+                            .price(price)
+                            .commission(commission(price, totalTransferCost))
+                            .totalTransferCost(totalTransferCost)
+                            .affordable(totalTransferCost <= ((Number) row[9]).doubleValue())
+                            .build();
+                }));
+    }
+
+    /**
+     * Method get page of players of other teams or without team, that the team can afford on the given date,
+     * ordered by id, starting after the given id.
+     * Prices are compared with the balance in the database, only the page is loaded.
+     *
+     * @param teamId {@link Integer}
+     * @param today  {@link LocalDate}
+     * @param after  {@link Integer}
+     * @param limit  {@link Integer}
+     * @return list of {@link TransferQuoteDtoResponse}.
+     */
+    public List<TransferQuoteDtoResponse> getAffordablePlayers(Integer teamId, LocalDate today, Integer after, Integer limit) {
+        List<Object[]> prices = withToday(entityManager.createQuery(AFFORDABLE_QUERY, Object[].class), today)
+                .setParameter("teamId", teamId)
+                .setParameter("after", after)
+                .setParameter("adultBirthDate", today.minusYears(1))
+                .setMaxResults(limit)
+                .getResultList();
+        if (prices.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Player> players = entityManager.createQuery("SELECT p FROM Player p WHERE p.id IN :ids", Player.class)
+                .setParameter("ids", prices.stream().map(row -> (Integer) row[0]).toList())
+                .getResultStream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        return RequestTimings.measureMapping(() -> prices.stream()
+                .filter(row -> players.containsKey((Integer) row[0]))
+                .map(row -> {
+                    Player player = players.get((Integer) row[0]);
+                    Double price = toDouble(row[1]);
+                    Double totalTransferCost = toDouble(row[2]);
+                    return TransferQuoteDtoResponse.builder()
+                            .playerId(player.getId())
+                            .firstName(player.getFirstName())
+                            .lastName(player.getLastName())
+                            .age(Player.calculateAge(player.getBirthDate()))
+                            .experienceMonths(player.getExperienceMonths())
+                            .fromTeamId(player.getTeam() == null ? null : player.getTeam().getId())
+                            .toTeamId(teamId)
+                            .price(price)
+                            .commission(commission(price, totalTransferCost))
+                            .totalTransferCost(totalTransferCost)
+                            .affordable(true)
+                            .build();
+                })
+                .collect(Collectors.toList()));
+    }
+
+    private <T> TypedQuery<T> withToday(TypedQuery<T> query, LocalDate today) {
+        return query
+                .setParameter("year", today.getYear())
+                .setParameter("month", today.getMonthValue())
+                .setParameter("day", today.getDayOfMonth());
+    }
+
+    private Double toDouble(Object value) {
+        return ((Number) value).doubleValue();
+    }
+
+    private Double commission(Double price, Double totalTransferCost) {
+        return Math.round((totalTransferCost - price) * 100.0) / 100.0;
+    }
+}
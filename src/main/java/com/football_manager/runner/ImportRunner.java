@@ -0,0 +1,83 @@
+package com.football_manager.runner;
+
+import com.football_manager.dto.response.ImportDtoResponse;
+import com.football_manager.service.ImportFormat;
+import com.football_manager.service.ImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Command line mode for bulk import, e.g.
+ * {@code java -jar app.jar --spring.main.web-application-type=none --import-teams=teams.csv --import-players=players.ndjson}.
+ * Teams are imported before players. The exit code is 1 when any row failed, the application exits with it
+ * when the import is finished.
+ */
+@Slf4j
+@Component
+public class ImportRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final String IMPORT_TEAMS_OPTION = "import-teams";
+    private static final String IMPORT_PLAYERS_OPTION = "import-players";
+
+    private final ImportService importService;
+    private boolean imported;
+    private int exitCode;
+
+    @Autowired
+    public ImportRunner(ImportService importService) {
+        this.importService = importService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption(IMPORT_TEAMS_OPTION) && !args.containsOption(IMPORT_PLAYERS_OPTION)) {
+            return;
+        }
+
+        int failed = importFiles(args.getOptionValues(IMPORT_TEAMS_OPTION), importService::importTeams)
+                + importFiles(args.getOptionValues(IMPORT_PLAYERS_OPTION), importService::importPlayers);
+
+        imported = true;
+        exitCode = failed == 0 ? 0 : 1;
+    }
+
+    /**
+     * Method check whether the application was started to import files, so it should exit once started.
+     *
+     * @return boolean.
+     */
+    public boolean hasImported() {
+        return imported;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private int importFiles(List<String> files, BiFunction<InputStream, ImportFormat, ImportDtoResponse> importer) throws IOException {
+        if (files == null) {
+            return 0;
+        }
+        int failed = 0;
+        for (String file : files) {
+            try (InputStream inputStream = Files.newInputStream(Path.of(file))) {
+                ImportDtoResponse result = importer.apply(inputStream, ImportFormat.fromFileName(file));
+                log.info("Imported {}: {} rows imported, {} rows failed", file, result.getImported(), result.getFailed());
+                result.getErrors().forEach(error -> log.warn("{}: {}", file, error));
+                failed += result.getFailed();
+            }
+        }
+        return failed;
+    }
+}
@@ -0,0 +1,31 @@
+package com.football_manager.service;
+
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+
+    /**
+     * Method resolve import format by content type of the request.
+     *
+     * @param contentType {@link String}
+     * @return {@link ImportFormat}.
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        return MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(CSV_MEDIA_TYPE)) ? CSV : NDJSON;
+    }
+
+    /**
+     * Method resolve import format by file extension.
+     *
+     * @param fileName {@link String}
+     * @return {@link ImportFormat}.
+     */
+    public static ImportFormat fromFileName(String fileName) {
+        return fileName.toLowerCase().endsWith(".csv") ? CSV : NDJSON;
+    }
+}
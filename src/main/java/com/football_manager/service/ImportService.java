@@ -0,0 +1,278 @@
+package com.football_manager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.football_manager.dto.request.PlayerDtoRequest;
+import com.football_manager.dto.request.TeamDtoRequest;
+import com.football_manager.dto.response.ImportDtoResponse;
+import com.football_manager.entity.Player;
+import com.football_manager.entity.Team;
+import com.football_manager.event.ChangeType;
+import com.football_manager.event.PlayerChangedEvent;
+import com.football_manager.event.TeamChangedEvent;
+import com.football_manager.repository.PlayerRepository;
+import com.football_manager.repository.TeamRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String LINE_MESSAGE = "Line ";
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final String TEAM_NOT_FOUND_MESSAGE = "The team does not exist by this id: ";
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    @Autowired
+    public ImportService(TeamRepository teamRepository,
+                         PlayerRepository playerRepository,
+                         ObjectMapper objectMapper,
+                         Validator validator,
+                         PlatformTransactionManager transactionManager,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${football-manager.import.batch-size:1000}") int batchSize) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES, CsvParser.Feature.TRIM_SPACES)
+                .build();
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Method for import teams from NDJSON or CSV stream.
+     * Rows are read one by one and inserted in JDBC batches, one transaction per batch.
+     *
+     * @param inputStream {@link InputStream}
+     * @param format      {@link ImportFormat}
+     * @return {@link ImportDtoResponse}.
+     */
+    public ImportDtoResponse importTeams(InputStream inputStream, ImportFormat format) {
+        ImportProgress progress = new ImportProgress();
+        List<Team> batch = new ArrayList<>(batchSize);
+
+        readRows(inputStream, format, TeamDtoRequest.class, progress, (line, teamDtoRequest) -> {
+            if (!isValid(line, teamDtoRequest, progress)) {
+                return;
+            }
+            batch.add(Team.builder()
+                    .name(teamDtoRequest.getName())
+                    .balance(teamDtoRequest.getBalance())
+                    .commissionPercentage(teamDtoRequest.getCommissionPercentage())
+                    .build());
+            if (batch.size() == batchSize) {
+                saveTeams(batch, progress);
+            }
+        });
+        saveTeams(batch, progress);
+
+        return progress.toDto();
+    }
+
+    /**
+     * Method for import players from NDJSON or CSV stream.
+     * Every distinct team id is resolved once, rows are inserted in JDBC batches, one transaction per batch.
+     *
+     * @param inputStream {@link InputStream}
+     * @param format      {@link ImportFormat}
+     * @return {@link ImportDtoResponse}.
+     */
+    public ImportDtoResponse importPlayers(InputStream inputStream, ImportFormat format) {
+        ImportProgress progress = new ImportProgress();
+        Map<Integer, Optional<Team>> teams = new HashMap<>();
+        List<Player> batch = new ArrayList<>(batchSize);
+
+        readRows(inputStream, format, PlayerDtoRequest.class, progress, (line, playerDtoRequest) -> {
+            if (!isValid(line, playerDtoRequest, progress)) {
+                return;
+            }
+            Optional<Team> team = teams.computeIfAbsent(playerDtoRequest.getTeamId(), teamRepository::getTeamById);
+            if (team.isEmpty()) {
+                progress.fail(line, TEAM_NOT_FOUND_MESSAGE + playerDtoRequest.getTeamId());
+                return;
+            }
+            batch.add(Player.builder()
+                    .birthDate(playerDtoRequest.getBirthDate())
+                    .firstName(playerDtoRequest.getFirstName())
+                    .lastName(playerDtoRequest.getLastName())
+                    .experienceMonths(playerDtoRequest.getExperienceMonths())
+                    .team(team.get())
+                    .build());
+            if (batch.size() == batchSize) {
+                savePlayers(batch, progress);
+            }
+        });
+        savePlayers(batch, progress);
+
+        return progress.toDto();
+    }
+
+    private void saveTeams(List<Team> batch, ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            teamRepository.saveTeams(batch);
+            batch.forEach(team -> eventPublisher.publishEvent(new TeamChangedEvent(team.getId(), ChangeType.CREATED)));
+        });
+        progress.imported += batch.size();
+        batch.clear();
+    }
+
+    private void savePlayers(List<Player> batch, ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            playerRepository.savePlayers(batch);
+            batch.forEach(player -> eventPublisher.publishEvent(
+                    new PlayerChangedEvent(player.getId(), ChangeType.CREATED, null, player.getTeam().getId())));
+        });
+        progress.imported += batch.size();
+        batch.clear();
+    }
+
+    private <T> void readRows(InputStream inputStream, ImportFormat format, Class<T> type, ImportProgress progress, RowHandler<T> handler) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            skipByteOrderMark(reader);
+            if (format == ImportFormat.CSV) {
+                readCsvRows(reader, type, progress, handler);
+            } else {
+                readNdjsonRows(reader, type, progress, handler);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> void readNdjsonRows(BufferedReader reader, Class<T> type, ImportProgress progress, RowHandler<T> handler)
+            throws IOException {
+        ObjectReader rowReader = objectMapper.readerFor(type);
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            T row;
+            try {
+                row = rowReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                progress.fail(lineNumber, e.getOriginalMessage());
+                continue;
+            }
+            handler.handle(lineNumber, row);
+        }
+    }
+
+    /**
+     * Rows are parsed by the CSV parser itself, so quoted column names and quoted values spanning lines
+     * are handled, and a row which cannot be read does not stop the import.
+     */
+    private <T> void readCsvRows(BufferedReader reader, Class<T> type, ImportProgress progress, RowHandler<T> handler)
+            throws IOException {
+        try (MappingIterator<T> rows = csvMapper.readerFor(type)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(reader)) {
+            while (rows.hasNextValue()) {
+                int lineNumber = rows.getCurrentLocation().getLineNr();
+                T row;
+                try {
+                    row = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    progress.fail(lineNumber, e.getOriginalMessage());
+                    continue;
+                }
+                handler.handle(lineNumber, row);
+            }
+        }
+    }
+
+    private void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+    }
+
+    private <T> boolean isValid(int line, T row, ImportProgress progress) {
+        Set<ConstraintViolation<T>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return true;
+        }
+        progress.fail(line, violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface RowHandler<T> {
+        void handle(int line, T row);
+    }
+
+    private static class ImportProgress {
+        private int imported;
+        private int failed;
+        private final List<String> errors = new ArrayList<>();
+
+        private void fail(int line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(LINE_MESSAGE + line + ": " + message);
+            }
+        }
+
+        private ImportDtoResponse toDto() {
+            return ImportDtoResponse.builder()
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.response.PlayerValueDtoResponse;
+import com.football_manager.dto.response.SquadValueDtoResponse;
+import com.football_manager.exception.IdNotFoundException;
+import com.football_manager.repository.MarketValueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Market values of players, stored with each player and indexed for sorted and aggregated reads.
+ * A value only changes with experience, which is revalued on every write, or on a birthday.
+ * Birthdays are caught up by a nightly job, which only touches players whose revaluation date has come.
+ */
+@Slf4j
+@Service
+public class MarketValueService {
+
+    private final String TEAM_NOT_FOUND_MESSAGE = "The team does not exist by this id: ";
+
+    private final MarketValueRepository marketValueRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public MarketValueService(MarketValueRepository marketValueRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${football-manager.market-value.batch-size:1000}") int batchSize) {
+        this.marketValueRepository = marketValueRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Method for revalue players whose birthday is due, one transaction per batch.
+     * Runs on startup, to value players written before, and nightly.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${football-manager.market-value.revalue-cron:0 5 0 * * *}")
+    public void revalueDuePlayers() {
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        Integer revalued;
+        do {
+            revalued = transactionTemplate.execute(status -> marketValueRepository.revalueDuePlayers(today, batchSize));
+            total += revalued == null ? 0 : revalued;
+        } while (revalued != null && revalued == batchSize);
+        log.info("Revalued {} players due on {}", total, today);
+    }
+
+    /**
+     * Method get the most valuable players, in descending order of market value.
+     *
+     * @param limit {@link Integer}
+     * @return list of {@link PlayerValueDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerValueDtoResponse> getMostValuablePlayers(Integer limit) {
+        return marketValueRepository.getMostValuablePlayers(limit);
+    }
+
+    /**
+     * Method get squad value of the team.
+     *
+     * @param teamId {@link Integer}
+     * @return {@link SquadValueDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public SquadValueDtoResponse getSquadValue(Integer teamId) {
+        return marketValueRepository.getSquadValue(teamId)
+                .orElseThrow(() -> new IdNotFoundException(TEAM_NOT_FOUND_MESSAGE + teamId));
+    }
+
+    /**
+     * Method get squad values of all teams, most valuable squad first.
+     *
+     * @return list of {@link SquadValueDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public List<SquadValueDtoResponse> getSquadValues() {
+        return marketValueRepository.getSquadValues();
+    }
+}
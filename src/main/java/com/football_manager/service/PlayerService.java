@@ -1,58 +1,208 @@
 package com.football_manager.service;
 
+import com.football_manager.cache.RequestCoalescer;
+import com.football_manager.cache.VersionStamps;
 import com.football_manager.dto.request.PlayerDtoRequest;
+import com.football_manager.dto.request.PlayerSearchDtoRequest;
+import com.football_manager.dto.response.PlayerBatchDtoResponse;
 import com.football_manager.dto.response.PlayerTeamDtoResponse;
 import com.football_manager.dto.response.TeamDtoResponse;
 import com.football_manager.entity.Player;
 import com.football_manager.entity.Team;
+import com.football_manager.event.ChangeType;
+import com.football_manager.event.PlayerChangedEvent;
+import com.football_manager.event.TransferCompletedEvent;
 import com.football_manager.exception.IdNotFoundException;
 import com.football_manager.exception.InsufficientBalanceException;
+import com.football_manager.exception.TooManyIdsException;
+import com.football_manager.exception.TransferConflictException;
+import com.football_manager.metrics.TransferMetrics;
 import com.football_manager.repository.PlayerRepository;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class PlayerService {
 
+    private static final String PLAYER_FLIGHT = "player";
+
     private final PlayerRepository playerRepository;
     private final TeamService teamService;
+    private final VersionStamps versionStamps;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final RequestCoalescer requestCoalescer;
+    private final TransferMetrics transferMetrics;
+    private final int maxTransferAttempts;
+    private final long transferRetryBackoffMs;
+    private final int maxIdsPerRequest;
 
     @Autowired
-    public PlayerService(PlayerRepository playerRepository, TeamService teamService) {
+    public PlayerService(PlayerRepository playerRepository,
+                         TeamService teamService,
+                         VersionStamps versionStamps,
+                         ApplicationEventPublisher eventPublisher,
+                         PlatformTransactionManager transactionManager,
+                         RequestCoalescer requestCoalescer,
+                         TransferMetrics transferMetrics,
+                         @Value("${football-manager.transfer.max-attempts:5}") int maxTransferAttempts,
+                         @Value("${football-manager.transfer.retry-backoff-ms:20}") long transferRetryBackoffMs,
+                         @Value("${football-manager.multi-get.max-ids:100}") int maxIdsPerRequest) {
         this.playerRepository = playerRepository;
         this.teamService = teamService;
+        this.versionStamps = versionStamps;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.requestCoalescer = requestCoalescer;
+        this.transferMetrics = transferMetrics;
+        this.maxTransferAttempts = maxTransferAttempts;
+        this.transferRetryBackoffMs = transferRetryBackoffMs;
+        this.maxIdsPerRequest = maxIdsPerRequest;
     }
 
     private final String PLAYER_NOT_FOUND_MESSAGE = "The player does not exist by this id: ";
     private final String PLAYER_DELETED_MESSAGE = "Player deleted successfully";
     private final String INSUFFICIENT_BALANCE_MESSAGE = "Insufficient balance";
+    private final String PLAYER_MOVED_CONCURRENTLY_MESSAGE = "The player was transferred concurrently, id: ";
+    private final String TOO_MANY_IDS_MESSAGE = "Too many ids in one request, the maximum is: ";
+    private final String TRANSFER_CONFLICT_MESSAGE = "The transfer could not be completed because of concurrent transfers, player id: ";
+
+    /**
+     * Method get page of players ordered by id (keyset pagination).
+     *
+     * @param after {@link Integer} id of the last player from the previous page
+     * @param limit {@link Integer} max number of players in the page
+     * @return list of {@link PlayerTeamDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerTeamDtoResponse> getPlayers(Integer after, Integer limit) {
+        return playerRepository.getPlayersAfter(after, limit);
+    }
+
+    /**
+     * Method get players with their teams by ids in one query, in the order of the ids.
+     * Repeated ids are returned once, ids of players that do not exist are reported as missing.
+     *
+     * @param ids list of {@link Integer}
+     * @return {@link PlayerBatchDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public PlayerBatchDtoResponse getPlayersByIds(List<Integer> ids) {
+        List<Integer> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.size() > maxIdsPerRequest) {
+            throw new TooManyIdsException(TOO_MANY_IDS_MESSAGE + maxIdsPerRequest);
+        }
+        Map<Integer, PlayerTeamDtoResponse> players = playerRepository.getPlayerSummariesByIds(distinctIds).stream()
+                .collect(Collectors.toMap(PlayerTeamDtoResponse::getId, Function.identity()));
+        return PlayerBatchDtoResponse.builder()
+                .players(distinctIds.stream().filter(players::containsKey).map(players::get).toList())
+                .missingIds(distinctIds.stream().filter(id -> !players.containsKey(id)).toList())
+                .build();
+    }
 
     /**
-     * Method get all players.
+     * Method search page of players ordered by id by name, team, age, birth date and experience.
+     * Age limits are turned into birth date limits, so the birth date index answers both.
      *
+     * @param playerSearchDtoRequest {@link PlayerSearchDtoRequest}
      * @return list of {@link PlayerTeamDtoResponse}.
      */
-    public List<PlayerTeamDtoResponse> getAllPlayers() {
-        List<Player> players = playerRepository.getAllPlayers();
+    @Transactional(readOnly = true)
+    public List<PlayerTeamDtoResponse> searchPlayers(PlayerSearchDtoRequest playerSearchDtoRequest) {
+        List<String> nameTerms = playerSearchDtoRequest.getName() == null ? List.of()
+                : Arrays.stream(playerSearchDtoRequest.getName().trim().toLowerCase(Locale.ROOT).split("\\s+"))
+                        .filter(term -> !term.isEmpty())
+                        .toList();
+
+        LocalDate today = LocalDate.now();
+        LocalDate bornFrom = playerSearchDtoRequest.getBornFrom();
+        if (playerSearchDtoRequest.getMaxAge() != null) {
+            LocalDate bornOnOrAfter = today.minusYears(playerSearchDtoRequest.getMaxAge() + 1L).plusDays(1);
+            bornFrom = bornFrom == null || bornOnOrAfter.isAfter(bornFrom) ? bornOnOrAfter : bornFrom;
+        }
+        LocalDate bornTo = playerSearchDtoRequest.getBornTo();
+        if (playerSearchDtoRequest.getMinAge() != null) {
+            LocalDate bornOnOrBefore = today.minusYears(playerSearchDtoRequest.getMinAge());
+            bornTo = bornTo == null || bornOnOrBefore.isBefore(bornTo) ? bornOnOrBefore : bornTo;
+        }
 
-        return players.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+        return playerRepository.searchPlayers(nameTerms, playerSearchDtoRequest.isFuzzy(), playerSearchDtoRequest.getTeamId(),
+                bornFrom, bornTo, playerSearchDtoRequest.getMinExperienceMonths(), playerSearchDtoRequest.getMaxExperienceMonths(),
+                playerSearchDtoRequest.getAfter(), playerSearchDtoRequest.getLimit());
+    }
+
+    /**
+     * Method stream all players ordered by id to the consumer one by one,
+     * without loading the whole table into memory.
+     *
+     * @param consumer {@link Consumer} of {@link PlayerTeamDtoResponse}
+     */
+    @Transactional(readOnly = true)
+    public void streamAllPlayers(Consumer<PlayerTeamDtoResponse> consumer) {
+        try (Stream<PlayerTeamDtoResponse> players = playerRepository.streamAllPlayers()) {
+            players.forEach(consumer);
+        }
     }
 
     /**
      * Method get player by id.
+     * Concurrent calls for the same version of the player share one load. The load runs in its own read-only
+     * transaction, so calls waiting for it hold no connection.
      *
      * @param id {@link Integer}
      * @return {@link PlayerTeamDtoResponse}.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PlayerTeamDtoResponse getPlayer(Integer id) {
-        Player player = getPlayerById(id);
-        return mapToDto(player);
+        return requestCoalescer.execute(PLAYER_FLIGHT, versionStamps.getPlayerETag(id),
+                () -> readOnlyTransaction.execute(status -> playerRepository.getPlayerSummaryById(id)
+                        .orElseThrow(() -> new IdNotFoundException(PLAYER_NOT_FOUND_MESSAGE + id))));
+    }
+
+    /**
+     * Method get ETag of the player, changed by every change of the player or of any team.
+     * Read it before the player itself, so a concurrent change never goes out under the old ETag.
+     *
+     * @param id {@link Integer}
+     * @return {@link String}.
+     */
+    public String getPlayerETag(Integer id) {
+        return versionStamps.getPlayerETag(id);
+    }
+
+    /**
+     * Method get ETag of the pages of players.
+     *
+     * @return {@link String}.
+     */
+    public String getPlayersETag() {
+        return versionStamps.getTeamsAndPlayersETag();
     }
 
     /**
@@ -62,18 +212,19 @@ public class PlayerService {
      * @return {@link PlayerTeamDtoResponse}.
      */
     public PlayerTeamDtoResponse createPlayer(PlayerDtoRequest playerDtoRequest) {
-        Team team = teamService.getTeamById(playerDtoRequest.getTeamId());
+        TeamDtoResponse team = teamService.getTeamSummary(playerDtoRequest.getTeamId());
 
         Player player = Player.builder()
                 .birthDate(playerDtoRequest.getBirthDate())
                 .firstName(playerDtoRequest.getFirstName())
                 .lastName(playerDtoRequest.getLastName())
                 .experienceMonths(playerDtoRequest.getExperienceMonths())
-                .team(team)
+                .team(teamService.getTeamReference(team.getId()))
                 .build();
 
         Player createdPlayer = playerRepository.savePlayer(player);
-        return mapToDto(createdPlayer);
+        eventPublisher.publishEvent(new PlayerChangedEvent(createdPlayer.getId(), ChangeType.CREATED, null, team.getId()));
+        return mapToDto(createdPlayer, team);
     }
 
     /**
@@ -84,19 +235,21 @@ public class PlayerService {
      * @return {@link PlayerTeamDtoResponse}.
      */
     public PlayerTeamDtoResponse updatePlayer(Integer id, PlayerDtoRequest playerDtoRequest) {
-        Team team = teamService.getTeamById(playerDtoRequest.getTeamId());
+        TeamDtoResponse team = teamService.getTeamSummary(playerDtoRequest.getTeamId());
         Player player = getPlayerById(id);
+        Integer previousTeamId = player.getTeam() == null ? null : player.getTeam().getId();
 
         Player playerToBeUpdated = player.toBuilder()
                 .firstName(playerDtoRequest.getFirstName())
                 .lastName(playerDtoRequest.getLastName())
                 .birthDate(playerDtoRequest.getBirthDate())
                 .experienceMonths(playerDtoRequest.getExperienceMonths())
-                .team(team)
+                .team(teamService.getTeamReference(team.getId()))
                 .build();
 
         Player updatedPlayer = playerRepository.updatePlayer(playerToBeUpdated);
-        return mapToDto(updatedPlayer);
+        eventPublisher.publishEvent(new PlayerChangedEvent(id, ChangeType.UPDATED, previousTeamId, team.getId()));
+        return mapToDto(updatedPlayer, team);
     }
 
     /**
@@ -106,43 +259,142 @@ public class PlayerService {
      * @return {@link String}.
      */
     public String deletePlayer(Integer id) {
+        Team team = getPlayerById(id).getTeam();
         Integer deletedPlayer = playerRepository.deletePlayer(id);
         if (deletedPlayer == 0) {
             throw new IdNotFoundException(PLAYER_NOT_FOUND_MESSAGE + id);
         } else {
+            eventPublisher.publishEvent(new PlayerChangedEvent(id, ChangeType.DELETED, team == null ? null : team.getId(), null));
             return PLAYER_DELETED_MESSAGE;
         }
     }
 
     /**
      * Method for conducts transfer for player.
+     * Each attempt runs in its own transaction and is retried a bounded number of times
+     * when it loses a race with a concurrent transfer.
      *
      * @param playerId {@link Integer}
      * @param teamId   {@link Integer}
      * @return {@link PlayerTeamDtoResponse}.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PlayerTeamDtoResponse transferPlayer(Integer playerId, Integer teamId) {
+        Timer.Sample sample = transferMetrics.start();
+        try {
+            PlayerTeamDtoResponse player = transferWithRetries(playerId, teamId);
+            transferMetrics.recordTransfer(sample, null);
+            return player;
+        } catch (RuntimeException e) {
+            transferMetrics.recordTransfer(sample, e);
+            throw e;
+        }
+    }
+
+    private PlayerTeamDtoResponse transferWithRetries(Integer playerId, Integer teamId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> executeTransfer(playerId, teamId));
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxTransferAttempts) {
+                    throw new TransferConflictException(TRANSFER_CONFLICT_MESSAGE + playerId);
+                }
+                transferMetrics.recordRetry();
+                backOff(attempt, playerId);
+            }
+        }
+    }
+
+    private PlayerTeamDtoResponse executeTransfer(Integer playerId, Integer teamId) {
         Player player = getPlayerById(playerId);
-        Team toTeam = teamService.getTeamById(teamId);
+        TeamDtoResponse toTeamSummary = teamService.getTeamSummary(teamId);
+        Team toTeam = teamService.getTeamReference(teamId);
+        Team fromTeam = player.getTeam();
 
-        Double totalTransferCost = calculateTotalTransferCost(player, toTeam);
+        Double totalTransferCost = calculateTotalTransferCost(player, toTeamSummary.getCommissionPercentage());
 
-        if (toTeam.getBalance() < totalTransferCost) {
-            throw new InsufficientBalanceException(INSUFFICIENT_BALANCE_MESSAGE);
+        // Balances are changed by conditional updates in the database, always in ascending
+        // team id order, so concurrent transfers neither lose updates nor deadlock.
+        if (fromTeam == null) {
+            debit(toTeam, totalTransferCost);
+        } else if (fromTeam.getId() < toTeam.getId()) {
+            teamService.creditBalance(fromTeam.getId(), totalTransferCost);
+            debit(toTeam, totalTransferCost);
+        } else {
+            debit(toTeam, totalTransferCost);
+            teamService.creditBalance(fromTeam.getId(), totalTransferCost);
         }
 
-        Team fromTeam = player.getTeam();
-        fromTeam.setBalance(fromTeam.getBalance() + totalTransferCost);
-        toTeam.setBalance(toTeam.getBalance() - totalTransferCost);
+        if (playerRepository.moveToTeam(player, fromTeam, toTeam) == 0) {
+            throw new ConcurrencyFailureException(PLAYER_MOVED_CONCURRENTLY_MESSAGE + playerId);
+        }
+        eventPublisher.publishEvent(new TransferCompletedEvent(playerId, fromTeam == null ? null : fromTeam.getId(), teamId,
+                totalTransferCost, calculatePlayerPrice(player)));
 
-        player.setTeam(toTeam);
-        playerRepository.savePlayer(player);
+        teamService.refreshTeam(toTeam);
+        playerRepository.refreshPlayer(player);
         return mapToDto(player);
     }
 
-    private Double calculateTotalTransferCost(Player player, Team team) {
-        double playerPrice = (player.getExperienceMonths() * 100000.0) / player.getAge();
-        double commission = playerPrice * (team.getCommissionPercentage() / 100);
+    private void debit(Team team, Double amount) {
+        if (teamService.debitBalance(team.getId(), amount) == 0) {
+            throw new InsufficientBalanceException(INSUFFICIENT_BALANCE_MESSAGE);
+        }
+    }
+
+    private void backOff(int attempt, Integer playerId) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(transferRetryBackoffMs * attempt) + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransferConflictException(TRANSFER_CONFLICT_MESSAGE + playerId);
+        }
+    }
+
+    /**
+     * Method for calculate total transfer cost of the player for the team, commission included.
+     *
+     * @param player {@link Player}
+     * @param team   {@link Team}
+     * @return {@link Double}.
+     */
+    public Double calculateTotalTransferCost(Player player, Team team) {
+        return calculateTotalTransferCost(player, team.getCommissionPercentage());
+    }
+
+    /**
+     * Method for calculate price of the player without commission.
+     *
+     * @param player {@link Player}
+     * @return {@link Double}.
+     */
+    public Double calculatePlayerPrice(Player player) {
+        return Player.calculatePrice(player.getExperienceMonths(), player.getAge());
+    }
+
+    /**
+     * Method for calculate total transfer cost of the player for a team with the given commission.
+     *
+     * @param player               {@link Player}
+     * @param commissionPercentage {@link Double}
+     * @return {@link Double}.
+     */
+    public Double calculateTotalTransferCost(Player player, Double commissionPercentage) {
+        return calculateTotalTransferCost(player.getExperienceMonths(), player.getAge(), commissionPercentage);
+    }
+
+    /**
+     * Method for calculate total transfer cost of a player with the given experience and age,
+     * for a team with the given commission.
+     *
+     * @param experienceMonths     int
+     * @param age                  int
+     * @param commissionPercentage double
+     * @return double.
+     */
+    public static double calculateTotalTransferCost(int experienceMonths, int age, double commissionPercentage) {
+        double playerPrice = (experienceMonths * 100000.0) / age;
+        double commission = playerPrice * (commissionPercentage / 100);
         double totalCost = playerPrice + commission;
         return Math.round(totalCost * 100.0) / 100.0;
     }
@@ -152,18 +404,22 @@ public class PlayerService {
                 .orElseThrow(() -> new IdNotFoundException(PLAYER_NOT_FOUND_MESSAGE + id));
     }
 
-    private PlayerTeamDtoResponse mapToDto(Player player) {
+    static PlayerTeamDtoResponse mapToDto(Player player) {
+        return mapToDto(player, mapToTeamDto(player.getTeam()));
+    }
+
+    private static PlayerTeamDtoResponse mapToDto(Player player, TeamDtoResponse team) {
         return PlayerTeamDtoResponse.builder()
                 .id(player.getId())
                 .firstName(player.getFirstName())
                 .lastName(player.getLastName())
                 .age(player.getAge())
                 .experienceMonths(player.getExperienceMonths())
-                .team(mapToTeamDto(player.getTeam()))
+                .team(team)
                 .build();
     }
 
-    private TeamDtoResponse mapToTeamDto(Team team) {
+    private static TeamDtoResponse mapToTeamDto(Team team) {
         return team == null ? null : TeamDtoResponse.builder()
                 .id(team.getId())
                 .name(team.getName())
@@ -0,0 +1,204 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.request.SimulationDtoRequest;
+import com.football_manager.dto.response.DistributionDtoResponse;
+import com.football_manager.dto.response.SimulationResultDtoResponse;
+import com.football_manager.dto.response.SimulationResultType;
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.entity.Player;
+import com.football_manager.exception.TooManySimulationsException;
+import com.football_manager.repository.PlayerRepository;
+import com.football_manager.repository.TeamRepository;
+import com.football_manager.simulation.LeagueState;
+import com.football_manager.simulation.SimulationStatistics;
+import com.football_manager.simulation.TransferSimulator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Transfer window simulation: teams and players are read once in a short read-only transaction into a
+ * {@link LeagueState}, then the trials run in memory on the simulation pool, holding no connection.
+ * Results are streamed as NDJSON: progress lines while trials run, one line per team and a summary line.
+ * At most football-manager.simulation.max-concurrent simulations share the pool. A simulation whose response
+ * times out or fails stops at its next progress line, so it does not keep the pool busy for nobody.
+ */
+@Slf4j
+@Service
+public class SimulationService {
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final TransferSimulator transferSimulator;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long timeoutMillis;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+
+    private final String TOO_MANY_SIMULATIONS_MESSAGE = "Too many simulations are running, the maximum is: ";
+
+    @Autowired
+    public SimulationService(TeamRepository teamRepository,
+                             PlayerRepository playerRepository,
+                             TransferSimulator transferSimulator,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${football-manager.simulation.timeout:PT10M}") Duration timeout,
+                             @Value("${football-manager.simulation.max-concurrent:1}") int maxConcurrent) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.transferSimulator = transferSimulator;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timeoutMillis = timeout.toMillis();
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Method for start a simulation of the transfer window on the current teams and players.
+     * The simulation runs in the background and its results are written to the returned emitter.
+     *
+     * @param simulationDtoRequest {@link SimulationDtoRequest}
+     * @return {@link ResponseBodyEmitter}.
+     * @throws TooManySimulationsException if max-concurrent simulations are already running.
+     */
+    public ResponseBodyEmitter simulate(SimulationDtoRequest simulationDtoRequest) {
+        if (!permits.tryAcquire()) {
+            throw new TooManySimulationsException(TOO_MANY_SIMULATIONS_MESSAGE + maxConcurrent);
+        }
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        emitter.onTimeout(() -> cancelled.set(true));
+        emitter.onError(error -> cancelled.set(true));
+        long seed = simulationDtoRequest.getSeed() == null
+                ? ThreadLocalRandom.current().nextLong()
+                : simulationDtoRequest.getSeed();
+        Thread.ofVirtual().name("transfer-simulation").start(() -> {
+            try {
+                run(emitter, cancelled, simulationDtoRequest.getTrials(), simulationDtoRequest.getTransfersPerTrial(), seed);
+                emitter.complete();
+            } catch (CancellationException e) {
+                log.debug("Transfer simulation with seed {} cancelled", seed);
+            } catch (Exception e) {
+                log.warn("Transfer simulation with seed {} failed", seed, e);
+                emitter.completeWithError(e);
+            } finally {
+                permits.release();
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * Method get snapshot of all teams and players, priced with the transfer formula as of today.
+     *
+     * @return {@link LeagueState}.
+     */
+    public LeagueState loadLeagueState() {
+        return readOnlyTransaction.execute(status -> {
+            LeagueState state = new LeagueState();
+            Map<Integer, Integer> teamPositions = new HashMap<>();
+            try (Stream<TeamDtoResponse> teams = teamRepository.streamAllTeamSummaries()) {
+                teams.forEach(team -> teamPositions.put(team.getId(), state.addTeam(team.getId(),
+                        team.getBalance() == null ? 0 : Math.round(team.getBalance() * 100),
+                        team.getCommissionPercentage() == null ? 0 : team.getCommissionPercentage())));
+            }
+            LocalDate today = LocalDate.now();
+            try (Stream<Object[]> players = playerRepository.streamPlayerPricing()) {
+                players.forEach(row -> {
+                    Integer teamId = (Integer) row[1];
+                    state.addPlayer((Integer) row[0], teamId == null ? -1 : teamPositions.get(teamId),
+                            calculatePrice((LocalDate) row[2], (Integer) row[3], today));
+                });
+            }
+            return state;
+        });
+    }
+
+    private void run(ResponseBodyEmitter emitter, AtomicBoolean cancelled, int trials, int transfersPerTrial, long seed) {
+        LeagueState state = loadLeagueState();
+        long start = System.nanoTime();
+        SimulationStatistics statistics = transferSimulator.simulate(state, trials, transfersPerTrial, seed,
+                progress -> send(emitter, cancelled, SimulationResultDtoResponse.builder()
+                        .type(SimulationResultType.PROGRESS)
+                        .trials(progress.getTrials())
+                        .completedTransfers(progress.getCompletedTransfers())
+                        .rejectedTransfers(progress.getRejectedTransfers())
+                        .build()));
+        long elapsedNanos = System.nanoTime() - start;
+
+        int[] initialSquadSizes = new int[state.getTeamCount()];
+        for (int player = 0; player < state.getPlayerCount(); player++) {
+            if (state.getPlayerTeam(player) >= 0) {
+                initialSquadSizes[state.getPlayerTeam(player)]++;
+            }
+        }
+        for (int team = 0; team < state.getTeamCount(); team++) {
+            send(emitter, cancelled, SimulationResultDtoResponse.builder()
+                    .type(SimulationResultType.TEAM)
+                    .teamId(state.getTeamId(team))
+                    .initialBalance(state.getBalance(team) / 100.0)
+                    .balance(DistributionDtoResponse.builder()
+                            .mean(Math.round(statistics.getBalanceMean(team)) / 100.0)
+                            .stdDev(Math.round(statistics.getBalanceStdDev(team)) / 100.0)
+                            .min(statistics.getBalanceMin(team) / 100.0)
+                            .max(statistics.getBalanceMax(team) / 100.0)
+                            .build())
+                    .initialSquadSize(initialSquadSizes[team])
+                    .squadSize(DistributionDtoResponse.builder()
+                            .mean(statistics.getSquadSizeMean(team))
+                            .stdDev(statistics.getSquadSizeStdDev(team))
+                            .min((double) statistics.getSquadSizeMin(team))
+                            .max((double) statistics.getSquadSizeMax(team))
+                            .build())
+                    .build());
+        }
+        send(emitter, cancelled, SimulationResultDtoResponse.builder()
+                .type(SimulationResultType.SUMMARY)
+                .trials(statistics.getTrials())
+                .completedTransfers(statistics.getCompletedTransfers())
+                .rejectedTransfers(statistics.getRejectedTransfers())
+                .seed(seed)
+                .elapsedMs(elapsedNanos / 1_000_000)
+                .trialsPerSecond(elapsedNanos == 0 ? null : Math.round(trials * 1e9 / elapsedNanos * 10) / 10.0)
+                .build());
+        log.debug("Transfer simulation with seed {}: {} trials of {} teams and {} players in {} ms", seed, trials,
+                state.getTeamCount(), state.getPlayerCount(), elapsedNanos / 1_000_000);
+    }
+
+    private double calculatePrice(LocalDate birthDate, Integer experienceMonths, LocalDate today) {
+        if (birthDate == null || experienceMonths == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        int age = Player.calculateAge(birthDate, today);
+        return age < 1 ? Double.POSITIVE_INFINITY : (experienceMonths * 100000.0) / age;
+    }
+
+    private void send(ResponseBodyEmitter emitter, AtomicBoolean cancelled, SimulationResultDtoResponse result) {
+        if (cancelled.get()) {
+            throw new CancellationException();
+        }
+        try {
+            emitter.send(result, MediaType.APPLICATION_JSON);
+            emitter.send("\n", MediaType.TEXT_PLAIN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.request.SquadBuilderDtoRequest;
+import com.football_manager.dto.response.SquadDtoResponse;
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.dto.response.TransferQuoteDtoResponse;
+import com.football_manager.entity.Player;
+import com.football_manager.repository.PlayerRepository;
+import com.football_manager.squad.SquadCandidates;
+import com.football_manager.squad.SquadOptimizer;
+import com.football_manager.squad.SquadSolution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Squad builder: the players of other teams or without team with the most experience in total that the team can buy
+ * within its balance. Candidates are priced with the transfer formula and the team's commission and loaded into
+ * primitive arrays in one short read-only transaction. The search runs outside of any transaction, so it holds
+ * no connection, and returns the best squad found within the time budget.
+ */
+@Slf4j
+@Service
+public class SquadBuilderService {
+
+    private static final int MAX_AGE = 200;
+
+    private final PlayerRepository playerRepository;
+    private final PlayerService playerService;
+    private final TeamService teamService;
+    private final SquadOptimizer squadOptimizer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration timeBudget;
+
+    @Autowired
+    public SquadBuilderService(PlayerRepository playerRepository,
+                               PlayerService playerService,
+                               TeamService teamService,
+                               SquadOptimizer squadOptimizer,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${football-manager.squad-builder.time-budget:PT2S}") Duration timeBudget) {
+        this.playerRepository = playerRepository;
+        this.playerService = playerService;
+        this.teamService = teamService;
+        this.squadOptimizer = squadOptimizer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Method for build the squad with the most experience in total that the team can buy now,
+     * within the team balance or the given lower budget, optionally in an age band and with at most a number of players.
+     *
+     * @param teamId                 {@link Integer}
+     * @param squadBuilderDtoRequest {@link SquadBuilderDtoRequest}
+     * @return {@link SquadDtoResponse}.
+     */
+    public SquadDtoResponse buildSquad(Integer teamId, SquadBuilderDtoRequest squadBuilderDtoRequest) {
+        TeamDtoResponse team = teamService.getTeamSummary(teamId);
+        double budget = squadBuilderDtoRequest.getBudget() == null
+                ? team.getBalance()
+                : Math.min(squadBuilderDtoRequest.getBudget(), team.getBalance());
+        LocalDate today = LocalDate.now();
+
+        SquadCandidates candidates = readOnlyTransaction.execute(status -> loadCandidates(team, squadBuilderDtoRequest, today));
+        SquadSolution solution = squadOptimizer.solve(candidates, Math.round(budget * 100),
+                squadBuilderDtoRequest.getMaxPlayers() == null ? Integer.MAX_VALUE : squadBuilderDtoRequest.getMaxPlayers(),
+                timeBudget);
+        log.debug("Squad for team {}: {} of {} candidates, {} nodes, optimal: {}", teamId,
+                solution.getCandidateIndexes().length, candidates.size(), solution.getNodes(), solution.isOptimal());
+
+        List<Integer> playerIds = Arrays.stream(solution.getCandidateIndexes())
+                .mapToObj(candidates::getPlayerId)
+                .toList();
+        List<TransferQuoteDtoResponse> players = playerIds.isEmpty() ? List.of() : readOnlyTransaction.execute(status ->
+                playerRepository.getPlayersByIds(playerIds).stream()
+                        .map(player -> mapToQuoteDto(player, team))
+                        .collect(Collectors.toList()));
+
+        return SquadDtoResponse.builder()
+                .teamId(teamId)
+                .budget(budget)
+                .totalTransferCost(solution.getCost() / 100.0)
+                .totalExperienceMonths(solution.getExperienceMonths())
+                .candidates(candidates.size())
+                .optimal(solution.isOptimal())
+                .players(players)
+                .build();
+    }
+
+    private SquadCandidates loadCandidates(TeamDtoResponse team, SquadBuilderDtoRequest squadBuilderDtoRequest, LocalDate today) {
+        int minAge = squadBuilderDtoRequest.getMinAge() == null ? 1 : squadBuilderDtoRequest.getMinAge();
+        int maxAge = squadBuilderDtoRequest.getMaxAge() == null ? MAX_AGE : squadBuilderDtoRequest.getMaxAge();
+        LocalDate bornAfter = today.minusYears(maxAge + 1L);
+
+        SquadCandidates candidates = new SquadCandidates();
+        try (Stream<Object[]> rows = playerRepository.streamTransferCandidates(team.getId(), bornAfter, today.minusYears(minAge))) {
+            rows.forEach(row -> {
+                int experienceMonths = (Integer) row[2];
+                int age = Player.calculateAge((LocalDate) row[1], today);
+                if (age < minAge || age > maxAge) {
+                    return;
+                }
+                double cost = PlayerService.calculateTotalTransferCost(experienceMonths, age, team.getCommissionPercentage());
+                candidates.add((Integer) row[0], Math.round(cost * 100), experienceMonths);
+            });
+        }
+        return candidates;
+    }
+
+    private TransferQuoteDtoResponse mapToQuoteDto(Player player, TeamDtoResponse team) {
+        Double price = playerService.calculatePlayerPrice(player);
+        Double totalTransferCost = playerService.calculateTotalTransferCost(player, team.getCommissionPercentage());
+        return TransferQuoteDtoResponse.builder()
+                .playerId(player.getId())
+                .firstName(player.getFirstName())
+                .lastName(player.getLastName())
+                .age(player.getAge())
+                .experienceMonths(player.getExperienceMonths())
+                .fromTeamId(player.getTeam() == null ? null : player.getTeam().getId())
+                .toTeamId(team.getId())
+                .price(price)
+                .commission(Math.round((totalTransferCost - price) * 100.0) / 100.0)
+                .totalTransferCost(totalTransferCost)
+                .affordable(true)
+                .build();
+    }
+}
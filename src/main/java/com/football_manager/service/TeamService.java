@@ -1,56 +1,208 @@
 package com.football_manager.service;
 
+import com.football_manager.cache.RequestCoalescer;
+import com.football_manager.cache.TeamCache;
+import com.football_manager.cache.VersionStamps;
 import com.football_manager.dto.request.TeamDtoRequest;
+import com.football_manager.dto.response.CacheStatsDtoResponse;
 import com.football_manager.dto.response.PlayerResponse;
+import com.football_manager.dto.response.TeamBatchDtoResponse;
 import com.football_manager.dto.response.TeamDtoResponse;
 import com.football_manager.dto.response.TeamPlayerDtoResponse;
-import com.football_manager.entity.Player;
 import com.football_manager.entity.Team;
+import com.football_manager.event.ChangeType;
+import com.football_manager.event.TeamChangedEvent;
 import com.football_manager.exception.IdNotFoundException;
+import com.football_manager.exception.TooManyIdsException;
 import com.football_manager.repository.TeamRepository;
-import jakarta.transaction.Transactional;
+import com.football_manager.timing.RequestTimings;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class TeamService {
 
+    private static final int ALL_TEAMS_PAGE_SIZE = 500;
+    private static final String TEAM_FLIGHT = "team";
+
     private final String TEAM_NOT_FOUND_MESSAGE = "The team does not exist by this id: ";
     private final String TEAM_DELETED_MESSAGE = "Team deleted successfully";
+    private final String TOO_MANY_IDS_MESSAGE = "Too many ids in one request, the maximum is: ";
 
 
     private final TeamRepository teamRepository;
+    private final TeamCache teamCache;
+    private final VersionStamps versionStamps;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxIdsPerRequest;
 
     @Autowired
-    public TeamService(TeamRepository teamRepository) {
+    public TeamService(TeamRepository teamRepository, TeamCache teamCache, VersionStamps versionStamps,
+                       ApplicationEventPublisher eventPublisher, RequestCoalescer requestCoalescer,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${football-manager.multi-get.max-ids:100}") int maxIdsPerRequest) {
         this.teamRepository = teamRepository;
+        this.teamCache = teamCache;
+        this.versionStamps = versionStamps;
+        this.eventPublisher = eventPublisher;
+        this.requestCoalescer = requestCoalescer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxIdsPerRequest = maxIdsPerRequest;
     }
 
     /**
-     * Method get all teams.
+     * Method get page of teams with their players.
+     * Team ids are paged first, then the teams and the rosters of the page are projected in one query each.
      *
+     * @param page {@link Integer}
+     * @param size {@link Integer}
      * @return list of {@link TeamPlayerDtoResponse}.
      */
-    public List<TeamPlayerDtoResponse> getAllTeams() {
-        List<Team> teams = teamRepository.getAllTeams();
+    @Transactional(readOnly = true)
+    public List<TeamPlayerDtoResponse> getTeams(Integer page, Integer size) {
+        return getTeamsWithRosters(teamRepository.getTeamIds(page, size));
+    }
+
+    /**
+     * Method get teams with their players by ids, in the order of the ids.
+     * The teams and their rosters are projected in one query each. Repeated ids are returned once,
+     * ids of teams that do not exist are reported as missing.
+     *
+     * @param ids list of {@link Integer}
+     * @return {@link TeamBatchDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public TeamBatchDtoResponse getTeamsByIds(List<Integer> ids) {
+        List<Integer> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.size() > maxIdsPerRequest) {
+            throw new TooManyIdsException(TOO_MANY_IDS_MESSAGE + maxIdsPerRequest);
+        }
+        Map<Integer, TeamDtoResponse> teams = teamRepository.getTeamsByIds(distinctIds).stream()
+                .collect(Collectors.toMap(TeamDtoResponse::getId, Function.identity()));
+        Map<Integer, List<PlayerResponse>> rosters = teamRepository.getRosters(List.copyOf(teams.keySet()));
 
-        return teams.stream()
-                .map(this::mapToTeamPlayerDto)
-                .collect(Collectors.toList());
+        return RequestTimings.measureMapping(() -> TeamBatchDtoResponse.builder()
+                .teams(distinctIds.stream()
+                        .filter(teams::containsKey)
+                        .map(id -> mapToTeamPlayerDto(teams.get(id), rosters.getOrDefault(id, List.of())))
+                        .toList())
+                .missingIds(distinctIds.stream().filter(id -> !teams.containsKey(id)).toList())
+                .build());
+    }
+
+    /**
+     * Method pass all teams with their players, ordered by id, to the consumer one page at a time,
+     * all read in one transaction. Pages are keyset-paginated by id and the persistence context
+     * is cleared after each page, so every page costs the same.
+     *
+     * @param consumer {@link Consumer} of {@link TeamPlayerDtoResponse}
+     */
+    @Transactional(readOnly = true)
+    public void streamAllTeams(Consumer<TeamPlayerDtoResponse> consumer) {
+        List<Integer> ids;
+        int after = 0;
+        do {
+            ids = teamRepository.getTeamIdsAfter(after, ALL_TEAMS_PAGE_SIZE);
+            if (!ids.isEmpty()) {
+                getTeamsWithRosters(ids).forEach(consumer);
+                after = ids.getLast();
+            }
+            teamRepository.clear();
+        } while (ids.size() == ALL_TEAMS_PAGE_SIZE);
+    }
+
+    /**
+     * Method get page of teams without players.
+     *
+     * @param page {@link Integer}
+     * @param size {@link Integer}
+     * @return list of {@link TeamDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public List<TeamDtoResponse> getTeamSummaries(Integer page, Integer size) {
+        return teamRepository.getTeams(page, size);
     }
 
     /**
      * Method get team by id.
+     * Concurrent calls for the same version of the team share one load. The load runs in its own read-only
+     * transaction, so calls waiting for it hold no connection.
      *
      * @param id {@link Integer}
      * @return {@link TeamPlayerDtoResponse}.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TeamPlayerDtoResponse getTeam(Integer id) {
-        Team team = getTeamById(id);
-        return mapToTeamPlayerDto(team);
+        return requestCoalescer.execute(TEAM_FLIGHT, versionStamps.getTeamETag(id),
+                () -> readOnlyTransaction.execute(status -> loadTeam(id)));
+    }
+
+    /**
+     * Method get team by id without players, served from the team cache.
+     *
+     * @param id {@link Integer}
+     * @return {@link TeamDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public TeamDtoResponse getTeamSummary(Integer id) {
+        return teamCache.get(id, this::getTeamSummaryById);
+    }
+
+    /**
+     * Method get ETag of the team with its players, changed by every change of the team or its roster.
+     * Read it before the team itself, so a concurrent change never goes out under the old ETag.
+     *
+     * @param id {@link Integer}
+     * @return {@link String}.
+     */
+    public String getTeamETag(Integer id) {
+        return versionStamps.getTeamETag(id);
+    }
+
+    /**
+     * Method get ETag of the pages of teams with their players.
+     *
+     * @return {@link String}.
+     */
+    public String getTeamsETag() {
+        return versionStamps.getTeamsAndPlayersETag();
+    }
+
+    /**
+     * Method get ETag of the pages of teams without players.
+     *
+     * @return {@link String}.
+     */
+    public String getTeamSummariesETag() {
+        return versionStamps.getTeamSummariesETag();
+    }
+
+    /**
+     * Method get team cache statistics.
+     *
+     * @return {@link CacheStatsDtoResponse}.
+     */
+    public CacheStatsDtoResponse getTeamCacheStats() {
+        return teamCache.getStats();
     }
 
     /**
@@ -67,6 +219,7 @@ public class TeamService {
                 .build();
 
         Team createdTeam = teamRepository.saveTeam(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(createdTeam.getId(), ChangeType.CREATED));
         return mapToTeamDto(createdTeam);
     }
 
@@ -87,6 +240,7 @@ public class TeamService {
                 .build();
 
         Team updatedTeam = teamRepository.updateTeam(teamToBeUpdated);
+        eventPublisher.publishEvent(new TeamChangedEvent(id, ChangeType.UPDATED));
         return mapToTeamDto(updatedTeam);
     }
 
@@ -101,10 +255,41 @@ public class TeamService {
         if (deletedTeam == 0) {
             throw new IdNotFoundException(TEAM_NOT_FOUND_MESSAGE + id);
         } else {
+            eventPublisher.publishEvent(new TeamChangedEvent(id, ChangeType.DELETED));
             return TEAM_DELETED_MESSAGE;
         }
     }
 
+    /**
+     * Method for withdraw amount from team balance, only if the balance covers it.
+     *
+     * @param id     {@link Integer}
+     * @param amount {@link Double}
+     * @return {@link Integer} number of updated teams.
+     */
+    public Integer debitBalance(Integer id, Double amount) {
+        return teamRepository.debitBalance(id, amount);
+    }
+
+    /**
+     * Method for add amount to team balance.
+     *
+     * @param id     {@link Integer}
+     * @param amount {@link Double}
+     * @return {@link Integer} number of updated teams.
+     */
+    public Integer creditBalance(Integer id, Double amount) {
+        return teamRepository.creditBalance(id, amount);
+    }
+
+    public Team getTeamReference(Integer id) {
+        return teamRepository.getTeamReference(id);
+    }
+
+    public void refreshTeam(Team team) {
+        teamRepository.refreshTeam(team);
+    }
+
     public Team getTeamById(Integer id) {
         return teamRepository.getTeamById(id)
                 .orElseThrow(() -> new IdNotFoundException(TEAM_NOT_FOUND_MESSAGE + id));
@@ -119,25 +304,33 @@ public class TeamService {
                 .build();
     }
 
-    private TeamPlayerDtoResponse mapToTeamPlayerDto(Team team) {
+    private List<TeamPlayerDtoResponse> getTeamsWithRosters(List<Integer> ids) {
+        List<TeamDtoResponse> teams = teamRepository.getTeamsByIds(ids);
+        Map<Integer, List<PlayerResponse>> rosters = teamRepository.getRosters(ids);
+
+        return RequestTimings.measureMapping(() -> teams.stream()
+                .map(team -> mapToTeamPlayerDto(team, rosters.getOrDefault(team.getId(), List.of())))
+                .collect(Collectors.toList()));
+    }
+
+    private TeamPlayerDtoResponse loadTeam(Integer id) {
+        TeamDtoResponse team = getTeamSummaryById(id);
+        List<PlayerResponse> players = teamRepository.getRosters(List.of(id)).getOrDefault(id, List.of());
+        return RequestTimings.measureMapping(() -> mapToTeamPlayerDto(team, players));
+    }
+
+    private TeamDtoResponse getTeamSummaryById(Integer id) {
+        return teamRepository.getTeamSummaryById(id)
+                .orElseThrow(() -> new IdNotFoundException(TEAM_NOT_FOUND_MESSAGE + id));
+    }
+
+    static TeamPlayerDtoResponse mapToTeamPlayerDto(TeamDtoResponse team, List<PlayerResponse> players) {
         return TeamPlayerDtoResponse.builder()
                 .id(team.getId())
                 .name(team.getName())
                 .balance(team.getBalance())
                 .commissionPercentage(team.getCommissionPercentage())
-                .players(mapPlayersToDto(team.getPlayers()))
+                .players(players)
                 .build();
     }
-
-    private List<PlayerResponse> mapPlayersToDto(List<Player> players) {
-        return players.stream()
-                .map(player -> PlayerResponse.builder()
-                        .id(player.getId())
-                        .firstName(player.getFirstName())
-                        .lastName(player.getLastName())
-                        .age(player.getAge())
-                        .experienceMonths(player.getExperienceMonths())
-                        .build())
-                .collect(Collectors.toList());
-    }
 }
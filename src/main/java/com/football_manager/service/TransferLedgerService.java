@@ -0,0 +1,113 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.response.TransferRecordDtoResponse;
+import com.football_manager.entity.TransferLedgerPosition;
+import com.football_manager.entity.TransferOutbox;
+import com.football_manager.event.TransferCompletedEvent;
+import com.football_manager.repository.TransferLedgerRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Append-only ledger of completed transfers, written behind through a transactional outbox.
+ * A transfer adds one narrow outbox row in its own transaction, so it is recorded if and only if it commits.
+ * A scheduled drainer moves outbox rows to the indexed transfers table in batches.
+ * Ledger ids are given out by the drainer, so they follow the order transfers reach the ledger,
+ * which across instances is not strictly the order of transferredAt.
+ */
+@Slf4j
+@Service
+public class TransferLedgerService {
+
+    private final TransferLedgerRepository transferLedgerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public TransferLedgerService(TransferLedgerRepository transferLedgerRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${football-manager.ledger.batch-size:1000}") int batchSize) {
+        this.transferLedgerRepository = transferLedgerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        Gauge.builder("transfer.outbox.pending", this, service -> service.countOutbox())
+                .description("Transfers waiting in the outbox for the ledger")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Method for add the transfer to the outbox, in the transaction of the transfer.
+     *
+     * @param event {@link TransferCompletedEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTransferCompleted(TransferCompletedEvent event) {
+        transferLedgerRepository.saveToOutbox(TransferOutbox.builder()
+                .playerId(event.getPlayerId())
+                .fromTeamId(event.getFromTeamId())
+                .toTeamId(event.getToTeamId())
+                .price(event.getPlayerPrice())
+                .commission(Math.round((event.getTotalTransferCost() - event.getPlayerPrice()) * 100.0) / 100.0)
+                .transferredAt(Instant.now())
+                .build());
+    }
+
+    /**
+     * Method for move the outbox to the ledger, one transaction per batch, until the outbox is empty.
+     */
+    @Scheduled(fixedDelayString = "${football-manager.ledger.drain-interval:PT1S}")
+    public void drainOutbox() {
+        Integer moved;
+        do {
+            moved = transactionTemplate.execute(status -> {
+                TransferLedgerPosition position = transferLedgerRepository.lockLedgerPosition();
+                List<Long> ids = transferLedgerRepository.lockOutboxIds(batchSize);
+                return ids.isEmpty() ? 0 : transferLedgerRepository.moveToLedger(position, ids);
+            });
+            log.debug("Moved {} transfers from the outbox to the ledger", moved);
+        } while (moved != null && moved == batchSize);
+    }
+
+    /**
+     * Method get page of transfers of the player, most recently recorded first.
+     *
+     * @param playerId {@link Integer}
+     * @param before   {@link Long} id of the last transfer from the previous page
+     * @param limit    {@link Integer}
+     * @return list of {@link TransferRecordDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public List<TransferRecordDtoResponse> getPlayerTransfers(Integer playerId, Long before, Integer limit) {
+        return transferLedgerRepository.getPlayerTransfers(playerId, before, limit);
+    }
+
+    /**
+     * Method get page of transfers the team sold or bought, most recently recorded first.
+     *
+     * @param teamId {@link Integer}
+     * @param before {@link Long} id of the last transfer from the previous page
+     * @param limit  {@link Integer}
+     * @return list of {@link TransferRecordDtoResponse}.
+     */
+    @Transactional(readOnly = true)
+    public List<TransferRecordDtoResponse> getTeamTransfers(Integer teamId, Long before, Integer limit) {
+        return transferLedgerRepository.getTeamTransfers(teamId, before, limit);
+    }
+
+    private double countOutbox() {
+        return transactionTemplate.execute(status -> transferLedgerRepository.countOutbox());
+    }
+}
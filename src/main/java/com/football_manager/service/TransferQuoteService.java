@@ -0,0 +1,59 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.response.TransferQuoteDtoResponse;
+import com.football_manager.exception.IdNotFoundException;
+import com.football_manager.repository.TransferQuoteRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Transfer prices for scouting, without attempting the transfer.
+ * Prices are computed by the database with the same formula as the transfer itself.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TransferQuoteService {
+
+    private final String PLAYER_NOT_FOUND_MESSAGE = "The player does not exist by this id: ";
+
+    private final TransferQuoteRepository transferQuoteRepository;
+    private final TeamService teamService;
+
+    @Autowired
+    public TransferQuoteService(TransferQuoteRepository transferQuoteRepository, TeamService teamService) {
+        this.transferQuoteRepository = transferQuoteRepository;
+        this.teamService = teamService;
+    }
+
+    /**
+     * Method get quote for transfer of the player to the team: price, commission, total cost
+     * and whether the team can afford it now.
+     *
+     * @param playerId {@link Integer}
+     * @param teamId   {@link Integer}
+     * @return {@link TransferQuoteDtoResponse}.
+     */
+    public TransferQuoteDtoResponse getTransferQuote(Integer playerId, Integer teamId) {
+        return transferQuoteRepository.getTransferQuote(playerId, teamId, LocalDate.now())
+                .orElseThrow(() -> {
+                    teamService.getTeamSummary(teamId);
+                    return new IdNotFoundException(PLAYER_NOT_FOUND_MESSAGE + playerId);
+                });
+    }
+
+    /**
+     * Method get page of players of other teams or without team, that the team can afford now, ordered by id.
+     *
+     * @param teamId {@link Integer}
+     * @param after  {@link Integer} id of the last player from the previous page
+     * @param limit  {@link Integer}
+     * @return list of {@link TransferQuoteDtoResponse}.
+     */
+    public List<TransferQuoteDtoResponse> getAffordablePlayers(Integer teamId, Integer after, Integer limit) {
+        teamService.getTeamSummary(teamId);
+        return transferQuoteRepository.getAffordablePlayers(teamId, LocalDate.now(), after, limit);
+    }
+}
@@ -0,0 +1,145 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.request.TransferBatchDtoRequest;
+import com.football_manager.dto.request.TransferDtoRequest;
+import com.football_manager.dto.response.TransferBatchDtoResponse;
+import com.football_manager.dto.response.TransferDtoResponse;
+import com.football_manager.dto.response.TransferStatus;
+import com.football_manager.entity.Player;
+import com.football_manager.entity.Team;
+import com.football_manager.event.TransferCompletedEvent;
+import com.football_manager.metrics.TransferMetrics;
+import com.football_manager.repository.PlayerRepository;
+import com.football_manager.repository.TeamRepository;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class TransferService {
+
+    private final String PLAYER_NOT_FOUND_MESSAGE = "The player does not exist by this id: ";
+    private final String TEAM_NOT_FOUND_MESSAGE = "The team does not exist by this id: ";
+    private final String INSUFFICIENT_BALANCE_MESSAGE = "Insufficient balance";
+    private final String PLAYER_MOVED_CONCURRENTLY_MESSAGE = "The player was transferred concurrently, id: ";
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerService playerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransferMetrics transferMetrics;
+
+    @Autowired
+    public TransferService(PlayerRepository playerRepository,
+                           TeamRepository teamRepository,
+                           PlayerService playerService,
+                           ApplicationEventPublisher eventPublisher,
+                           TransferMetrics transferMetrics) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.playerService = playerService;
+        this.eventPublisher = eventPublisher;
+        this.transferMetrics = transferMetrics;
+    }
+
+    /**
+     * Method for conducts batch of transfers in one transaction.
+     * All involved teams and players are loaded and locked with a couple of queries,
+     * the transfers are applied in memory in request order and flushed as JDBC batches.
+     * A transfer which cannot be completed is reported in the response and does not affect the others.
+     *
+     * @param transferBatchDtoRequest {@link TransferBatchDtoRequest}
+     * @return {@link TransferBatchDtoResponse}.
+     */
+    public TransferBatchDtoResponse transferPlayers(TransferBatchDtoRequest transferBatchDtoRequest) {
+        Timer.Sample sample = transferMetrics.start();
+        List<TransferDtoRequest> transfers = transferBatchDtoRequest.getTransfers();
+
+        Set<Integer> playerIds = transfers.stream()
+                .map(TransferDtoRequest::getPlayerId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Set<Integer> teamIds = transfers.stream()
+                .map(TransferDtoRequest::getTeamId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        playerRepository.getTeamIdsByPlayerIds(playerIds).values().stream()
+                .filter(Objects::nonNull)
+                .forEach(teamIds::add);
+
+        // Teams are locked before players, both in ascending id order, the same order single transfers use.
+        Map<Integer, Team> teams = teamRepository.getTeamsByIdsForUpdate(teamIds).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        Map<Integer, Player> players = playerRepository.getPlayersByIdsForUpdate(playerIds).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        List<TransferDtoResponse> results = transfers.stream()
+                .map(transfer -> applyTransfer(transfer, players, teams))
+                .collect(Collectors.toList());
+        transferMetrics.recordBatch(sample, results);
+
+        int completed = (int) results.stream()
+                .filter(result -> result.getStatus() == TransferStatus.COMPLETED)
+                .count();
+
+        return TransferBatchDtoResponse.builder()
+                .completed(completed)
+                .failed(results.size() - completed)
+                .transfers(results)
+                .build();
+    }
+
+    private TransferDtoResponse applyTransfer(TransferDtoRequest transfer, Map<Integer, Player> players, Map<Integer, Team> teams) {
+        Player player = players.get(transfer.getPlayerId());
+        if (player == null) {
+            return mapToDto(transfer, TransferStatus.PLAYER_NOT_FOUND, null, PLAYER_NOT_FOUND_MESSAGE + transfer.getPlayerId());
+        }
+
+        Team toTeam = teams.get(transfer.getTeamId());
+        if (toTeam == null) {
+            return mapToDto(transfer, TransferStatus.TEAM_NOT_FOUND, null, TEAM_NOT_FOUND_MESSAGE + transfer.getTeamId());
+        }
+
+        Team fromTeam = player.getTeam() == null ? null : teams.get(player.getTeam().getId());
+        if (player.getTeam() != null && fromTeam == null) {
+            return mapToDto(transfer, TransferStatus.CONFLICT, null, PLAYER_MOVED_CONCURRENTLY_MESSAGE + transfer.getPlayerId());
+        }
+
+        Double totalTransferCost = playerService.calculateTotalTransferCost(player, toTeam);
+        if (toTeam.getBalance() < totalTransferCost) {
+            return mapToDto(transfer, TransferStatus.INSUFFICIENT_BALANCE, totalTransferCost, INSUFFICIENT_BALANCE_MESSAGE);
+        }
+
+        if (fromTeam != null) {
+            fromTeam.setBalance(roundToCents(fromTeam.getBalance() + totalTransferCost));
+        }
+        toTeam.setBalance(roundToCents(toTeam.getBalance() - totalTransferCost));
+        player.setTeam(toTeam);
+        eventPublisher.publishEvent(new TransferCompletedEvent(player.getId(), fromTeam == null ? null : fromTeam.getId(), toTeam.getId(),
+                totalTransferCost, playerService.calculatePlayerPrice(player)));
+
+        return mapToDto(transfer, TransferStatus.COMPLETED, totalTransferCost, null);
+    }
+
+    private double roundToCents(double amount) {
+        return Math.round(amount * 100.0) / 100.0;
+    }
+
+    private TransferDtoResponse mapToDto(TransferDtoRequest transfer, TransferStatus status, Double totalTransferCost, String message) {
+        return TransferDtoResponse.builder()
+                .playerId(transfer.getPlayerId())
+                .teamId(transfer.getTeamId())
+                .status(status)
+                .totalTransferCost(totalTransferCost)
+                .message(message)
+                .build();
+    }
+}
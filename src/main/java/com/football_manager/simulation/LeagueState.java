@@ -0,0 +1,118 @@
+package com.football_manager.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of teams and players for {@link TransferSimulator}, in parallel primitive arrays indexed by position.
+ * Balances are in cents. Each player keeps the price without commission unrounded, so the total cost for a team is
+ * computed and rounded exactly as {@link com.football_manager.service.PlayerService#calculateTotalTransferCost} does.
+ */
+public class LeagueState {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] teamIds = new int[INITIAL_CAPACITY];
+    private long[] balances = new long[INITIAL_CAPACITY];
+    private double[] commissions = new double[INITIAL_CAPACITY];
+    private int teamCount;
+
+    private int[] playerIds = new int[INITIAL_CAPACITY];
+    private int[] playerTeams = new int[INITIAL_CAPACITY];
+    private double[] playerPrices = new double[INITIAL_CAPACITY];
+    private int playerCount;
+
+    /**
+     * Method for add team.
+     *
+     * @param teamId               int
+     * @param balance              long balance in cents
+     * @param commissionPercentage double
+     * @return int position of the team.
+     */
+    public int addTeam(int teamId, long balance, double commissionPercentage) {
+        if (teamCount == teamIds.length) {
+            int capacity = teamCount * 2;
+            teamIds = Arrays.copyOf(teamIds, capacity);
+            balances = Arrays.copyOf(balances, capacity);
+            commissions = Arrays.copyOf(commissions, capacity);
+        }
+        teamIds[teamCount] = teamId;
+        balances[teamCount] = balance;
+        commissions[teamCount] = commissionPercentage / 100;
+        return teamCount++;
+    }
+
+    /**
+     * Method for add player.
+     *
+     * @param playerId int
+     * @param team     int position of the team, -1 for a player without team
+     * @param price    double price without commission, (experience months * 100000) / age
+     */
+    public void addPlayer(int playerId, int team, double price) {
+        if (playerCount == playerIds.length) {
+            int capacity = playerCount * 2;
+            playerIds = Arrays.copyOf(playerIds, capacity);
+            playerTeams = Arrays.copyOf(playerTeams, capacity);
+            playerPrices = Arrays.copyOf(playerPrices, capacity);
+        }
+        playerIds[playerCount] = playerId;
+        playerTeams[playerCount] = team;
+        playerPrices[playerCount] = price;
+        playerCount++;
+    }
+
+    /**
+     * Method get total transfer cost in cents of the player for the team, commission of the buying team included.
+     *
+     * @param player int position of the player
+     * @param team   int position of the team
+     * @return long.
+     */
+    public long getTotalTransferCost(int player, int team) {
+        double price = playerPrices[player];
+        return Math.round((price + price * commissions[team]) * 100.0);
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getTeamId(int team) {
+        return teamIds[team];
+    }
+
+    public long getBalance(int team) {
+        return balances[team];
+    }
+
+    public int getPlayerId(int player) {
+        return playerIds[player];
+    }
+
+    public int getPlayerTeam(int player) {
+        return playerTeams[player];
+    }
+
+    long[] copyBalances() {
+        return Arrays.copyOf(balances, teamCount);
+    }
+
+    int[] copyPlayerTeams() {
+        return Arrays.copyOf(playerTeams, playerCount);
+    }
+
+    int[] countSquadSizes() {
+        int[] squadSizes = new int[teamCount];
+        for (int player = 0; player < playerCount; player++) {
+            if (playerTeams[player] >= 0) {
+                squadSizes[playerTeams[player]]++;
+            }
+        }
+        return squadSizes;
+    }
+}
@@ -0,0 +1,133 @@
+package com.football_manager.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Final balances and squad sizes of each team summed over trials, mergeable across chunks of trials.
+ * Merged in a fixed chunk order, so the result of a seed does not depend on the number of threads.
+ * Squares of balances are summed as changes from the initial balance, which keeps the variance precise in doubles.
+ */
+public class SimulationStatistics {
+
+    private final int teamCount;
+    private final long[] initialBalances;
+    private long trials;
+    private long completedTransfers;
+    private long rejectedTransfers;
+
+    private final long[] balanceSums;
+    private final double[] balanceSquareSums;
+    private final long[] balanceMins;
+    private final long[] balanceMaxes;
+    private final long[] squadSizeSums;
+    private final long[] squadSizeSquareSums;
+    private final int[] squadSizeMins;
+    private final int[] squadSizeMaxes;
+
+    public SimulationStatistics(LeagueState state) {
+        this.teamCount = state.getTeamCount();
+        this.initialBalances = state.copyBalances();
+        this.balanceSums = new long[teamCount];
+        this.balanceSquareSums = new double[teamCount];
+        this.balanceMins = new long[teamCount];
+        this.balanceMaxes = new long[teamCount];
+        this.squadSizeSums = new long[teamCount];
+        this.squadSizeSquareSums = new long[teamCount];
+        this.squadSizeMins = new int[teamCount];
+        this.squadSizeMaxes = new int[teamCount];
+        Arrays.fill(balanceMins, Long.MAX_VALUE);
+        Arrays.fill(balanceMaxes, Long.MIN_VALUE);
+        Arrays.fill(squadSizeMins, Integer.MAX_VALUE);
+        Arrays.fill(squadSizeMaxes, Integer.MIN_VALUE);
+    }
+
+    void addTrial(long[] balances, int[] squadSizes, int completed, int rejected) {
+        trials++;
+        completedTransfers += completed;
+        rejectedTransfers += rejected;
+        for (int team = 0; team < teamCount; team++) {
+            long balance = balances[team];
+            balanceSums[team] += balance;
+            double change = balance - initialBalances[team];
+            balanceSquareSums[team] += change * change;
+            balanceMins[team] = Math.min(balanceMins[team], balance);
+            balanceMaxes[team] = Math.max(balanceMaxes[team], balance);
+            int squadSize = squadSizes[team];
+            squadSizeSums[team] += squadSize;
+            squadSizeSquareSums[team] += (long) squadSize * squadSize;
+            squadSizeMins[team] = Math.min(squadSizeMins[team], squadSize);
+            squadSizeMaxes[team] = Math.max(squadSizeMaxes[team], squadSize);
+        }
+    }
+
+    void merge(SimulationStatistics other) {
+        trials += other.trials;
+        completedTransfers += other.completedTransfers;
+        rejectedTransfers += other.rejectedTransfers;
+        for (int team = 0; team < teamCount; team++) {
+            balanceSums[team] += other.balanceSums[team];
+            balanceSquareSums[team] += other.balanceSquareSums[team];
+            balanceMins[team] = Math.min(balanceMins[team], other.balanceMins[team]);
+            balanceMaxes[team] = Math.max(balanceMaxes[team], other.balanceMaxes[team]);
+            squadSizeSums[team] += other.squadSizeSums[team];
+            squadSizeSquareSums[team] += other.squadSizeSquareSums[team];
+            squadSizeMins[team] = Math.min(squadSizeMins[team], other.squadSizeMins[team]);
+            squadSizeMaxes[team] = Math.max(squadSizeMaxes[team], other.squadSizeMaxes[team]);
+        }
+    }
+
+    public long getTrials() {
+        return trials;
+    }
+
+    public long getCompletedTransfers() {
+        return completedTransfers;
+    }
+
+    public long getRejectedTransfers() {
+        return rejectedTransfers;
+    }
+
+    /**
+     * Method get mean final balance of the team in cents.
+     *
+     * @param team int position of the team
+     * @return double.
+     */
+    public double getBalanceMean(int team) {
+        return (double) balanceSums[team] / trials;
+    }
+
+    public double getBalanceStdDev(int team) {
+        return standardDeviation(balanceSums[team] - (double) initialBalances[team] * trials, balanceSquareSums[team]);
+    }
+
+    public long getBalanceMin(int team) {
+        return balanceMins[team];
+    }
+
+    public long getBalanceMax(int team) {
+        return balanceMaxes[team];
+    }
+
+    public double getSquadSizeMean(int team) {
+        return (double) squadSizeSums[team] / trials;
+    }
+
+    public double getSquadSizeStdDev(int team) {
+        return standardDeviation(squadSizeSums[team], (double) squadSizeSquareSums[team]);
+    }
+
+    public int getSquadSizeMin(int team) {
+        return squadSizeMins[team];
+    }
+
+    public int getSquadSizeMax(int team) {
+        return squadSizeMaxes[team];
+    }
+
+    private double standardDeviation(double sum, double squareSum) {
+        double mean = sum / trials;
+        return Math.sqrt(Math.max(0.0, squareSum / trials - mean * mean));
+    }
+}
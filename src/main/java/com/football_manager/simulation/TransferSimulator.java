@@ -0,0 +1,125 @@
+package com.football_manager.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Runs independent trials of a transfer window on a {@link LeagueState}, in parallel on a fork-join pool.
+ *
+ * A trial repeatedly picks a random player and a random other team, which buys the player when its balance covers
+ * the total transfer cost, with the rules of {@link com.football_manager.service.PlayerService#transferPlayer}:
+ * the buyer pays the price plus its commission and the selling team, if any, receives that total.
+ * Each trial has its own random generator seeded from the seed and the trial number, so a seed always
+ * gives the same result. Trials run in chunks. Each worker reuses its arrays and undoes a trial's moves
+ * instead of copying all players for the next trial.
+ */
+public class TransferSimulator {
+
+    static final int CHUNK_SIZE = 256;
+
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ForkJoinPool pool;
+
+    public TransferSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Method for run the trials and aggregate their final balances and squad sizes.
+     *
+     * @param state             {@link LeagueState}
+     * @param trials            int number of trials
+     * @param transfersPerTrial int number of attempted transfers in each trial
+     * @param seed              long
+     * @param progress          {@link Consumer} of the statistics so far, called in the calling thread after chunks
+     * @return {@link SimulationStatistics}.
+     */
+    public SimulationStatistics simulate(LeagueState state, int trials, int transfersPerTrial, long seed,
+                                         Consumer<SimulationStatistics> progress) {
+        int chunks = (trials + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<ForkJoinTask<SimulationStatistics>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(trials, from + CHUNK_SIZE);
+            tasks.add(pool.submit(() -> runTrials(state, from, to, transfersPerTrial, seed)));
+        }
+
+        SimulationStatistics statistics = new SimulationStatistics(state);
+        int progressInterval = Math.max(1, chunks / 20);
+        try {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                statistics.merge(tasks.get(chunk).join());
+                if ((chunk + 1) % progressInterval == 0 && chunk + 1 < chunks) {
+                    progress.accept(statistics);
+                }
+            }
+        } finally {
+            tasks.forEach(task -> task.cancel(false));
+        }
+        return statistics;
+    }
+
+    private SimulationStatistics runTrials(LeagueState state, int from, int to, int transfersPerTrial, long seed) {
+        int teamCount = state.getTeamCount();
+        int playerCount = state.getPlayerCount();
+        long[] initialBalances = state.copyBalances();
+        int[] initialSquadSizes = state.countSquadSizes();
+
+        long[] balances = new long[teamCount];
+        int[] squadSizes = new int[teamCount];
+        int[] playerTeams = state.copyPlayerTeams();
+        int[] movedPlayers = new int[transfersPerTrial];
+        int[] previousTeams = new int[transfersPerTrial];
+        SimulationStatistics statistics = new SimulationStatistics(state);
+
+        for (int trial = from; trial < to; trial++) {
+            System.arraycopy(initialBalances, 0, balances, 0, teamCount);
+            System.arraycopy(initialSquadSizes, 0, squadSizes, 0, teamCount);
+            SplittableRandom random = new SplittableRandom(seed + trial * SEED_GAMMA);
+            int moves = 0;
+            int rejected = 0;
+
+            for (int attempt = 0; attempt < transfersPerTrial && playerCount > 0; attempt++) {
+                int player = random.nextInt(playerCount);
+                int fromTeam = playerTeams[player];
+                int otherTeams = fromTeam < 0 ? teamCount : teamCount - 1;
+                if (otherTeams == 0) {
+                    rejected++;
+                    continue;
+                }
+                int toTeam = random.nextInt(otherTeams);
+                if (fromTeam >= 0 && toTeam >= fromTeam) {
+                    toTeam++;
+                }
+
+                long cost = state.getTotalTransferCost(player, toTeam);
+                if (balances[toTeam] < cost) {
+                    rejected++;
+                    continue;
+                }
+                balances[toTeam] -= cost;
+                squadSizes[toTeam]++;
+                if (fromTeam >= 0) {
+                    balances[fromTeam] += cost;
+                    squadSizes[fromTeam]--;
+                }
+                playerTeams[player] = toTeam;
+                movedPlayers[moves] = player;
+                previousTeams[moves] = fromTeam;
+                moves++;
+            }
+
+            statistics.addTrial(balances, squadSizes, moves, rejected);
+            // Undo in reverse order, a player moved twice ends up in its first team.
+            for (int move = moves - 1; move >= 0; move--) {
+                playerTeams[movedPlayers[move]] = previousTeams[move];
+            }
+        }
+        return statistics;
+    }
+}
@@ -0,0 +1,53 @@
+package com.football_manager.squad;
+
+import java.util.Arrays;
+
+/**
+ * Candidate players of the squad builder in parallel primitive arrays: player id, total transfer cost in cents
+ * and experience in months. No object per candidate, so 100k+ candidates stay compact and cache friendly.
+ */
+public class SquadCandidates {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int[] playerIds = new int[INITIAL_CAPACITY];
+    private long[] costs = new long[INITIAL_CAPACITY];
+    private int[] experienceMonths = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Method for add candidate.
+     *
+     * @param playerId         int
+     * @param cost             long total transfer cost in cents
+     * @param experienceMonths int
+     */
+    public void add(int playerId, long cost, int experienceMonths) {
+        if (size == playerIds.length) {
+            int capacity = size * 2;
+            playerIds = Arrays.copyOf(playerIds, capacity);
+            costs = Arrays.copyOf(costs, capacity);
+            this.experienceMonths = Arrays.copyOf(this.experienceMonths, capacity);
+        }
+        playerIds[size] = playerId;
+        costs[size] = cost;
+        this.experienceMonths[size] = experienceMonths;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getPlayerId(int index) {
+        return playerIds[index];
+    }
+
+    public long getCost(int index) {
+        return costs[index];
+    }
+
+    public int getExperienceMonths(int index) {
+        return experienceMonths[index];
+    }
+}
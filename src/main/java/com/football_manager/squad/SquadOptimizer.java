@@ -0,0 +1,295 @@
+package com.football_manager.squad;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Chooses players with the most experience in total whose transfer costs fit in a budget, optionally with at most
+ * a number of players: a 0/1 knapsack solved by depth-first branch and bound on a fork-join pool.
+ *
+ * Candidates are sorted by experience per cent. A branch is cut when it cannot beat the best squad so far, bounded
+ * by the fractional knapsack of the remaining candidates (from prefix sums, in logarithmic time) and by the most
+ * experienced remaining candidate times the free places. The search starts from greedy squads, its top levels are
+ * forked as separate tasks, and it stops at the time budget with the best squad found until then.
+ */
+public class SquadOptimizer {
+
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+    private static final int DEADLINE_CHECK_INTERVAL = 4096;
+    private static final int TASKS_PER_THREAD_LOG = 6;
+
+    private final ForkJoinPool pool;
+
+    public SquadOptimizer(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Method for find the squad with the most experience in total within the budget.
+     *
+     * @param candidates {@link SquadCandidates}
+     * @param budget     long budget in cents
+     * @param maxPlayers int max number of players in the squad
+     * @param timeBudget {@link Duration} after which the best squad found so far is returned
+     * @return {@link SquadSolution}.
+     */
+    public SquadSolution solve(SquadCandidates candidates, long budget, int maxPlayers, Duration timeBudget) {
+        Search search = new Search(candidates, budget, maxPlayers, System.nanoTime() + timeBudget.toNanos(),
+                32 - Integer.numberOfLeadingZeros(pool.getParallelism()) + TASKS_PER_THREAD_LOG);
+        search.seedGreedy();
+        pool.invoke(search.new Branch(0, budget, 0, 0, new int[0], 0));
+        return search.toSolution();
+    }
+
+    private static final class Search {
+
+        private final int n;
+        private final long budget;
+        private final int maxPlayers;
+        private final long deadline;
+        private final int splitDepth;
+
+        // Candidate order is by experience per cent, descending. All arrays below are in this order.
+        private final int[] order;
+        private final long[] cost;
+        private final int[] value;
+        private final long[] costPrefix;
+        private final long[] valuePrefix;
+        private final int[] maxValueSuffix;
+        private final long[] minCostSuffix;
+
+        private final AtomicLong bestValue = new AtomicLong(-1);
+        private int[] bestItems = new int[0];
+        private final AtomicBoolean timedOut = new AtomicBoolean();
+        private final LongAdder nodes = new LongAdder();
+
+        Search(SquadCandidates candidates, long budget, int maxPlayers, long deadline, int splitDepth) {
+            this.budget = budget;
+            this.deadline = deadline;
+            this.splitDepth = splitDepth;
+
+            this.order = IntStream.range(0, candidates.size())
+                    .filter(i -> candidates.getCost(i) <= budget && candidates.getExperienceMonths(i) > 0)
+                    .boxed()
+                    .sorted(byRatio(candidates))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            this.n = order.length;
+            this.maxPlayers = Math.min(maxPlayers, n);
+
+            this.cost = new long[n];
+            this.value = new int[n];
+            this.costPrefix = new long[n + 1];
+            this.valuePrefix = new long[n + 1];
+            for (int i = 0; i < n; i++) {
+                cost[i] = candidates.getCost(order[i]);
+                value[i] = candidates.getExperienceMonths(order[i]);
+                costPrefix[i + 1] = costPrefix[i] + cost[i];
+                valuePrefix[i + 1] = valuePrefix[i] + value[i];
+            }
+            this.maxValueSuffix = new int[n + 1];
+            this.minCostSuffix = new long[n + 1];
+            minCostSuffix[n] = Long.MAX_VALUE;
+            for (int i = n - 1; i >= 0; i--) {
+                maxValueSuffix[i] = Math.max(maxValueSuffix[i + 1], value[i]);
+                minCostSuffix[i] = Math.min(minCostSuffix[i + 1], cost[i]);
+            }
+        }
+
+        private static Comparator<Integer> byRatio(SquadCandidates candidates) {
+            // a/b before c/d when a * d > c * b, exact in longs for experience in months and costs in cents.
+            return (first, second) -> {
+                int ratio = Long.compare(candidates.getExperienceMonths(second) * candidates.getCost(first),
+                        candidates.getExperienceMonths(first) * candidates.getCost(second));
+                return ratio != 0 ? ratio : Integer.compare(candidates.getExperienceMonths(second), candidates.getExperienceMonths(first));
+            };
+        }
+
+        /**
+         * Starts from the better of two greedy squads: by experience per cent, and by experience alone, which wins when
+         * the number of players rather than the budget is the limit.
+         */
+        void seedGreedy() {
+            seedGreedy(IntStream.range(0, n).toArray());
+            if (maxPlayers < n) {
+                seedGreedy(IntStream.range(0, n)
+                        .boxed()
+                        .sorted(Comparator.comparingInt((Integer i) -> value[i]).reversed())
+                        .mapToInt(Integer::intValue)
+                        .toArray());
+            }
+        }
+
+        private void seedGreedy(int[] positions) {
+            int[] items = new int[maxPlayers];
+            int count = 0;
+            long remaining = budget;
+            long total = 0;
+            for (int i = 0; i < positions.length && count < maxPlayers; i++) {
+                if (cost[positions[i]] <= remaining) {
+                    remaining -= cost[positions[i]];
+                    total += value[positions[i]];
+                    items[count++] = positions[i];
+                }
+            }
+            offer(total, items, count);
+        }
+
+        long upperBound(int from, long capacity, int count, long total) {
+            int places = maxPlayers - count;
+            if (places <= 0 || from >= n) {
+                return total;
+            }
+            long limit = costPrefix[from] + capacity;
+            int lo = from;
+            int hi = n;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (costPrefix[mid] <= limit) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            double fractional = total + (valuePrefix[lo] - valuePrefix[from]);
+            if (lo < n) {
+                fractional += (double) value[lo] * (limit - costPrefix[lo]) / cost[lo];
+            }
+            // The tolerance keeps a bound that is a whole number from being rounded down below itself.
+            return Math.min((long) Math.floor(fractional + 1e-6), total + (long) places * maxValueSuffix[from]);
+        }
+
+        int nextFitting(int from, long capacity, int count) {
+            if (count >= maxPlayers) {
+                return n;
+            }
+            int i = from;
+            while (i < n && cost[i] > capacity) {
+                if (capacity < minCostSuffix[i]) {
+                    return n;
+                }
+                i++;
+            }
+            return i;
+        }
+
+        void offer(long total, int[] items, int count) {
+            if (total <= bestValue.get()) {
+                return;
+            }
+            synchronized (this) {
+                if (total > bestValue.get()) {
+                    bestItems = Arrays.copyOf(items, count);
+                    bestValue.set(total);
+                }
+            }
+        }
+
+        boolean pastDeadline() {
+            if (System.nanoTime() - deadline >= 0) {
+                timedOut.set(true);
+            }
+            return timedOut.get();
+        }
+
+        /**
+         * Depth-first search below a branch, without recursion. Only included candidates are kept on the stack,
+         * skipping a candidate is moving on to the next one.
+         */
+        void searchSequentially(int from, long capacity, long total, int count, int[] prefix) {
+            int[] items = Arrays.copyOf(prefix, maxPlayers);
+            int base = prefix.length;
+            int size = base;
+            int i = from;
+            long visited = 0;
+
+            while (true) {
+                if (++visited % DEADLINE_CHECK_INTERVAL == 0 && pastDeadline()) {
+                    break;
+                }
+                offer(total, items, size);
+
+                int next = nextFitting(i, capacity, count);
+                if (next < n && upperBound(next, capacity, count, total) > bestValue.get()) {
+                    items[size++] = next;
+                    capacity -= cost[next];
+                    total += value[next];
+                    count++;
+                    i = next + 1;
+                    continue;
+                }
+
+                // Backtrack to the last included candidate whose exclusion can still beat the best squad.
+                boolean resumed = false;
+                while (size > base) {
+                    int last = items[--size];
+                    capacity += cost[last];
+                    total -= value[last];
+                    count--;
+                    if (upperBound(last + 1, capacity, count, total) > bestValue.get()) {
+                        i = last + 1;
+                        resumed = true;
+                        break;
+                    }
+                }
+                if (!resumed) {
+                    break;
+                }
+            }
+            nodes.add(visited);
+        }
+
+        SquadSolution toSolution() {
+            int[] indexes = Arrays.stream(bestItems).map(i -> order[i]).sorted().toArray();
+            long totalCost = Arrays.stream(bestItems).mapToLong(i -> cost[i]).sum();
+            return new SquadSolution(indexes, totalCost, Math.max(bestValue.get(), 0), !timedOut.get(), nodes.sum());
+        }
+
+        final class Branch extends RecursiveAction {
+
+            private final int from;
+            private final long capacity;
+            private final long total;
+            private final int count;
+            private final int[] prefix;
+            private final int depth;
+
+            Branch(int from, long capacity, long total, int count, int[] prefix, int depth) {
+                this.from = from;
+                this.capacity = capacity;
+                this.total = total;
+                this.count = count;
+                this.prefix = prefix;
+                this.depth = depth;
+            }
+
+            @Override
+            protected void compute() {
+                if (pastDeadline()) {
+                    return;
+                }
+                if (depth >= splitDepth || n - from <= SEQUENTIAL_THRESHOLD) {
+                    searchSequentially(from, capacity, total, count, prefix);
+                    return;
+                }
+                nodes.increment();
+                offer(total, prefix, prefix.length);
+                int next = nextFitting(from, capacity, count);
+                if (next == n || upperBound(next, capacity, count, total) <= bestValue.get()) {
+                    return;
+                }
+                int[] included = Arrays.copyOf(prefix, prefix.length + 1);
+                included[prefix.length] = next;
+                invokeAll(new Branch(next + 1, capacity - cost[next], total + value[next], count + 1, included, depth + 1),
+                        new Branch(next + 1, capacity, total, count, prefix, depth + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.football_manager.squad;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Best squad found by {@link SquadOptimizer}.
+ */
+@Getter
+@AllArgsConstructor
+public class SquadSolution {
+
+    /**
+     * Indexes of the chosen players in {@link SquadCandidates}.
+     */
+    private final int[] candidateIndexes;
+
+    /**
+     * Total transfer cost in cents.
+     */
+    private final long cost;
+
+    private final long experienceMonths;
+
+    /**
+     * Whether the search finished, so no better squad exists, or stopped at the time budget.
+     */
+    private final boolean optimal;
+
+    /**
+     * Number of search tree nodes visited.
+     */
+    private final long nodes;
+}
@@ -0,0 +1,93 @@
+package com.football_manager.timing;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-request breakdown of where the time went: SQL statements and JDBC time, DTO mapping and
+ * JSON serialization. Bound to the request thread by {@link ServerTimingFilter}; when server timing
+ * is disabled nothing is bound and measuring is a single flag check.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static volatile boolean enabled;
+
+    private final long startNanos = System.nanoTime();
+    private int sqlStatements;
+    private long jdbcNanos;
+    private long mappingNanos;
+    private long serializationNanos;
+
+    private RequestTimings() {
+    }
+
+    static void enable() {
+        enabled = true;
+    }
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static RequestTimings current() {
+        return enabled ? CURRENT.get() : null;
+    }
+
+    /**
+     * Method for run DTO mapping and add its time to the current request.
+     *
+     * @param mapping {@link Supplier} which maps query results to responses
+     * @return the mapped responses.
+     */
+    public static <T> T measureMapping(Supplier<T> mapping) {
+        RequestTimings timings = current();
+        if (timings == null) {
+            return mapping.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return mapping.get();
+        } finally {
+            timings.mappingNanos += System.nanoTime() - start;
+        }
+    }
+
+    void addStatement(long nanos) {
+        sqlStatements++;
+        jdbcNanos += nanos;
+    }
+
+    void addSerialization(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    int getSqlStatements() {
+        return sqlStatements;
+    }
+
+    double getJdbcMillis() {
+        return toMillis(jdbcNanos);
+    }
+
+    double getMappingMillis() {
+        return toMillis(mappingNanos);
+    }
+
+    double getSerializationMillis() {
+        return toMillis(serializationNanos);
+    }
+
+    double getTotalMillis() {
+        return toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,131 @@
+package com.football_manager.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Adds a Server-Timing header with the SQL statement count, JDBC, mapping and serialization time of the request.
+ * Requests with the X-Server-Timing-Debug: true header also get the breakdown in the body: a JSON response
+ * is wrapped as {"data": ..., "serverTiming": {...}}.
+ * The response is buffered to set the header after serialization. Asynchronous responses (emitters, SSE and
+ * streaming bodies) are written straight through and not timed, since their body is written after the first dispatch.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final String DEBUG_HEADER = "X-Server-Timing-Debug";
+
+    private final ObjectMapper objectMapper;
+    private final List<String> excludedPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ServerTimingFilter(ObjectMapper objectMapper, List<String> excludedPaths) {
+        this.objectMapper = objectMapper;
+        this.excludedPaths = excludedPaths;
+        RequestTimings.enable();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludedPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new AsyncAwareResponseWrapper(request, response);
+        RequestTimings timings = RequestTimings.start();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            RequestTimings.clear();
+        }
+        if (request.isAsyncStarted()) {
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+
+        responseWrapper.setHeader(SERVER_TIMING_HEADER, formatHeader(timings));
+        if (Boolean.parseBoolean(request.getHeader(DEBUG_HEADER)) && isJson(responseWrapper.getContentType())
+                && responseWrapper.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                && responseWrapper.getContentSize() > 0) {
+            writeDebugBody(responseWrapper, timings);
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private String formatHeader(RequestTimings timings) {
+        return String.format(Locale.ROOT,
+                "db;desc=\"%d SQL statements\";dur=%.2f, mapping;dur=%.2f, serialization;dur=%.2f, total;dur=%.2f",
+                timings.getSqlStatements(), timings.getJdbcMillis(), timings.getMappingMillis(),
+                timings.getSerializationMillis(), timings.getTotalMillis());
+    }
+
+    private void writeDebugBody(ContentCachingResponseWrapper responseWrapper, RequestTimings timings) throws IOException {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.set("data", objectMapper.readTree(responseWrapper.getContentAsByteArray()));
+        body.putObject("serverTiming")
+                .put("sqlStatements", timings.getSqlStatements())
+                .put("jdbcMs", timings.getJdbcMillis())
+                .put("mappingMs", timings.getMappingMillis())
+                .put("serializationMs", timings.getSerializationMillis())
+                .put("totalMs", timings.getTotalMillis());
+
+        responseWrapper.resetBuffer();
+        objectMapper.writeValue(responseWrapper.getOutputStream(), body);
+    }
+
+    private boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    /**
+     * Stops caching once the request goes asynchronous, so the body written after the first dispatch reaches the client.
+     */
+    private static class AsyncAwareResponseWrapper extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        AsyncAwareResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreaming()) {
+                copyBodyToResponse();
+                getResponse().flushBuffer();
+            }
+        }
+
+        private boolean isStreaming() {
+            return request.isAsyncStarted();
+        }
+    }
+}
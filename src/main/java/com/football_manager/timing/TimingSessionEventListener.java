@@ -0,0 +1,39 @@
+package com.football_manager.timing;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener which counts JDBC statements and batches of the current request
+ * and adds up their execution time.
+ */
+public class TimingSessionEventListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.addStatement(System.nanoTime() - statementStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.addStatement(System.nanoTime() - batchStart);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+--liquibase formatted sql
+
+-- changeset nazar:pooled-id-sequences dbms:postgresql
+ALTER SEQUENCE teams_id_seq INCREMENT BY 50;
+ALTER SEQUENCE players_id_seq INCREMENT BY 50;
+
+-- changeset nazar:pooled-id-sequences-h2 dbms:h2
+-- Start after the 10 seeded rows plus one allocation block, as PostgreSQL does after the increment change.
+CREATE SEQUENCE teams_id_seq START WITH 60 INCREMENT BY 50;
+CREATE SEQUENCE players_id_seq START WITH 60 INCREMENT BY 50;
+ALTER TABLE teams ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE teams ALTER COLUMN id SET DEFAULT NEXT VALUE FOR teams_id_seq;
+ALTER TABLE players ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE players ALTER COLUMN id SET DEFAULT NEXT VALUE FOR players_id_seq;
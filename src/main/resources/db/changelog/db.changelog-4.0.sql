@@ -0,0 +1,31 @@
+--liquibase formatted sql
+
+-- changeset nazar:create-transfer-outbox-table
+-- Written in the transfer's transaction, drained into transfers in the background.
+CREATE SEQUENCE transfer_outbox_id_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE transfer_outbox
+(
+    id             BIGINT PRIMARY KEY,
+    player_id      INTEGER                  NOT NULL,
+    from_team_id   INTEGER,
+    to_team_id     INTEGER                  NOT NULL,
+    price          NUMERIC(14, 2)           NOT NULL,
+    commission     NUMERIC(14, 2)           NOT NULL,
+    transferred_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- changeset nazar:create-transfers-table
+-- Append-only ledger, ids are taken over from the outbox. No foreign keys, so history outlives deleted players and teams.
+CREATE TABLE transfers
+(
+    id             BIGINT PRIMARY KEY,
+    player_id      INTEGER                  NOT NULL,
+    from_team_id   INTEGER,
+    to_team_id     INTEGER                  NOT NULL,
+    price          NUMERIC(14, 2)           NOT NULL,
+    commission     NUMERIC(14, 2)           NOT NULL,
+    transferred_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+CREATE INDEX idx_transfers_player_id ON transfers (player_id, id);
+CREATE INDEX idx_transfers_from_team_id ON transfers (from_team_id, id);
+CREATE INDEX idx_transfers_to_team_id ON transfers (to_team_id, id);
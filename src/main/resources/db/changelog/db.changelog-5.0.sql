@@ -0,0 +1,6 @@
+--liquibase formatted sql
+
+-- changeset nazar:create-players-transfer-price-index
+--comment: Only makes the id-ordered scan index-only. The price depends on the date, so the budget filter is still evaluated for every scanned row, and a team which can afford few players scans many rows to fill a page.
+-- Holds every column the transfer price needs, so affordable players are searched in id order without table access.
+CREATE INDEX idx_players_transfer_price ON players (id, birth_date, experience_months, team_id);
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset nazar:add-players-market-value
+-- Kept current on every write and by the revaluation job on birthdays. Existing and raw-inserted rows are due today.
+ALTER TABLE players ADD COLUMN market_value NUMERIC(14, 2);
+ALTER TABLE players ADD COLUMN revalue_on DATE DEFAULT CURRENT_DATE NOT NULL;
+CREATE INDEX idx_players_revalue_on ON players (revalue_on, id);
+CREATE INDEX idx_players_market_value ON players (market_value DESC, id);
+CREATE INDEX idx_players_team_market_value ON players (team_id, market_value);
@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+-- changeset nazar:create-players-search-indexes
+-- Range filters of the player search. Team filter uses idx_players_team_market_value.
+CREATE INDEX idx_players_birth_date ON players (birth_date, id);
+CREATE INDEX idx_players_experience_months ON players (experience_months, id);
+
+-- changeset nazar:create-players-name-search-indexes dbms:postgresql
+-- Case-insensitive prefix search with LIKE needs pattern ops, fuzzy search needs trigrams.
+-- pg_trgm is a trusted extension, so the database owner can create it.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_players_first_name_prefix ON players (lower(first_name) text_pattern_ops);
+CREATE INDEX idx_players_last_name_prefix ON players (lower(last_name) text_pattern_ops);
+CREATE INDEX idx_players_first_name_trgm ON players USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_players_last_name_trgm ON players USING gin (lower(last_name) gin_trgm_ops);
@@ -0,0 +1,12 @@
+--liquibase formatted sql
+
+-- changeset nazar:create-transfer-ledger-position-table
+-- Last id given out in transfers. Drainers lock the single row, so ledger ids grow in the order batches commit.
+CREATE TABLE transfer_ledger_position
+(
+    id      INTEGER PRIMARY KEY,
+    last_id BIGINT NOT NULL
+);
+INSERT INTO transfer_ledger_position (id, last_id)
+SELECT 1, COALESCE(MAX(id), 0)
+FROM transfers;
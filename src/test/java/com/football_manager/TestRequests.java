@@ -0,0 +1,36 @@
+package com.football_manager;
+
+import com.football_manager.dto.request.PlayerDtoRequest;
+import com.football_manager.dto.request.TeamDtoRequest;
+import java.time.LocalDate;
+
+/**
+ * Valid team and player requests for tests which create their own teams and players.
+ */
+public final class TestRequests {
+
+    private TestRequests() {
+    }
+
+    public static TeamDtoRequest teamRequest(String name, Double balance) {
+        return teamRequest(name, balance, 5.0);
+    }
+
+    public static TeamDtoRequest teamRequest(String name, Double balance, Double commissionPercentage) {
+        TeamDtoRequest teamDtoRequest = new TeamDtoRequest();
+        teamDtoRequest.setName(name);
+        teamDtoRequest.setBalance(balance);
+        teamDtoRequest.setCommissionPercentage(commissionPercentage);
+        return teamDtoRequest;
+    }
+
+    public static PlayerDtoRequest playerRequest(Integer teamId) {
+        PlayerDtoRequest playerDtoRequest = new PlayerDtoRequest();
+        playerDtoRequest.setFirstName("Test");
+        playerDtoRequest.setLastName("Player");
+        playerDtoRequest.setBirthDate(LocalDate.of(1998, 5, 17));
+        playerDtoRequest.setExperienceMonths(24);
+        playerDtoRequest.setTeamId(teamId);
+        return playerDtoRequest;
+    }
+}
@@ -0,0 +1,114 @@
+package com.football_manager.cache;
+
+import com.football_manager.service.TeamService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "football-manager.snapshot.enabled=true",
+        "football-manager.snapshot.max-staleness=PT1H"
+})
+@AutoConfigureMockMvc
+class LeagueSnapshotTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LeagueSnapshot leagueSnapshot;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void gzipAndPlainSnapshotsHoldTheSameListing() throws Exception {
+        String json = mockMvc.perform(get("/api/snapshot/players"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString();
+        byte[] gzip = mockMvc.perform(get("/api/snapshot/players").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertEquals(json, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        List<Integer> ids = JsonPath.read(json, "$[*].id");
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void changesAreServedAfterTheNextRefresh() throws Exception {
+        MvcResult before = mockMvc.perform(get("/api/snapshot/teams")).andReturn();
+        String eTag = before.getResponse().getHeader(HttpHeaders.ETAG);
+        int teams = JsonPath.<List<?>>read(before.getResponse().getContentAsString(), "$").size();
+
+        mockMvc.perform(post("/api/teams")
+                        .contentType("application/json")
+                        .content("{\"name\":\"Snapshot FC\",\"balance\":1000.0,\"commissionPercentage\":5.0}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/snapshot/teams").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        leagueSnapshot.refresh();
+        MvcResult after = mockMvc.perform(get("/api/snapshot/teams").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertNotEquals(eTag, after.getResponse().getHeader(HttpHeaders.ETAG));
+        assertEquals(teams + 1, JsonPath.<List<?>>read(after.getResponse().getContentAsString(), "$").size());
+    }
+
+    @Test
+    void snapshotBuiltOnAnEarlierDayIsRebuilt() throws Exception {
+        String eTag = mockMvc.perform(get("/api/snapshot/players")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        leagueSnapshot.refresh();
+        assertEquals(eTag, mockMvc.perform(get("/api/snapshot/players")).andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+
+        ReflectionTestUtils.setField(leagueSnapshot, "builtOn", LocalDate.now().minusDays(1));
+        leagueSnapshot.refresh();
+
+        assertNotEquals(eTag, mockMvc.perform(get("/api/snapshot/players")).andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void allTeamsAreStreamedAcrossKeysetPages() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            rows.add(new Object[]{"Keyset " + i, 1000, 5});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO teams (name, balance, commission_percentage) VALUES (?, ?, ?)", rows);
+        try {
+            List<Integer> streamed = new ArrayList<>();
+            teamService.streamAllTeams(team -> streamed.add(team.getId()));
+
+            assertEquals(jdbcTemplate.queryForList("SELECT id FROM teams ORDER BY id", Integer.class), streamed);
+        } finally {
+            jdbcTemplate.update("DELETE FROM teams WHERE name LIKE 'Keyset %'");
+        }
+    }
+}
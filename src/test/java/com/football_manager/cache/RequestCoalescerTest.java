@@ -0,0 +1,118 @@
+package com.football_manager.cache;
+
+import com.football_manager.exception.IdNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentCallsForTheSameKeyShareOneLoad() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true, Duration.ofSeconds(10), Map.of(), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> coalescer.execute("team", "t1.0", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "team 1";
+            }));
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                followers.add(executor.submit(() -> coalescer.execute("team", "t1.0", () -> {
+                    loads.incrementAndGet();
+                    return "loaded again";
+                })));
+            }
+            String otherVersion = coalescer.execute("team", "t1.1", () -> "team 1 changed");
+            while (waiting() < 50) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertEquals("team 1", leader.get());
+            for (Future<String> follower : followers) {
+                assertEquals("team 1", follower.get());
+            }
+            assertEquals("team 1 changed", otherVersion);
+        }
+        assertEquals(1, loads.get());
+        assertEquals(2, count("loaded"));
+        assertEquals(50, count("coalesced"));
+        assertEquals(0.0, meterRegistry.get("coalescing.in.flight").gauge().value());
+    }
+
+    @Test
+    void waitersGetTheLoadExceptionOrLoadThemselvesAfterTheTimeout() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true, Duration.ofSeconds(10), Map.of("slow", Duration.ofMillis(50)),
+                meterRegistry);
+        CountDownLatch loading = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> failing = executor.submit(() -> coalescer.execute("team", 404, () -> {
+                loading.countDown();
+                await(release);
+                throw new IdNotFoundException("The team does not exist by this id: 404");
+            }));
+            Future<String> slow = executor.submit(() -> coalescer.execute("slow", 1, () -> {
+                loading.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+            Future<String> waiter = executor.submit(() -> coalescer.execute("team", 404, () -> "loaded again"));
+            assertEquals("own load", coalescer.execute("slow", 1, () -> "own load"));
+            while (waiting() < 1) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertEquals("slow", slow.get());
+            assertThrows(Exception.class, failing::get);
+            Exception exception = assertThrows(Exception.class, waiter::get);
+            assertTrue(exception.getCause() instanceof IdNotFoundException);
+        }
+        assertEquals(1.0, meterRegistry.get("coalescing.calls").tag("name", "slow").tag("outcome", "timed_out").counter().count());
+    }
+
+    private double waiting() {
+        return meterRegistry.get("coalescing.waiting").gauge().value();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.find("coalescing.calls").tag("name", "team").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.football_manager.cache;
+
+import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.service.PlayerService;
+import com.football_manager.service.TeamService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.concurrent.CompletableFuture;
+
+import static com.football_manager.TestRequests.playerRequest;
+import static com.football_manager.TestRequests.teamRequest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TeamCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void repeatedReadsAreHitsAndReportedInStats() throws Exception {
+        TeamDtoResponse team = teamService.createTeam(teamRequest("Stats FC", 1000.0));
+        long hits = hitCount();
+
+        teamService.getTeamSummary(team.getId());
+        teamService.getTeamSummary(team.getId());
+        teamService.getTeamSummary(team.getId());
+
+        assertEquals(hits + 2, hitCount());
+    }
+
+    @Test
+    void transferIsNotServedFromCachedBalances() {
+        TeamDtoResponse seller = teamService.createTeam(teamRequest("Cache Seller", 0.0));
+        TeamDtoResponse buyer = teamService.createTeam(teamRequest("Cache Buyer", 10000000.0));
+        PlayerTeamDtoResponse player = playerService.createPlayer(playerRequest(seller.getId()));
+        assertEquals(0.0, teamService.getTeamSummary(seller.getId()).getBalance());
+        assertEquals(10000000.0, teamService.getTeamSummary(buyer.getId()).getBalance());
+
+        // The transfer reads the buyer through the cache inside its own transaction, before the balances change.
+        Double buyerBalance = playerService.transferPlayer(player.getId(), buyer.getId()).getTeam().getBalance();
+
+        assertTrue(buyerBalance < 10000000.0);
+        assertEquals(buyerBalance, teamService.getTeamSummary(buyer.getId()).getBalance());
+        assertEquals(10000000.0 - buyerBalance, teamService.getTeamSummary(seller.getId()).getBalance(), 0.001);
+    }
+
+    @Test
+    void teamIsInvalidatedAfterTheUpdateCommits() {
+        TeamDtoResponse team = teamService.createTeam(teamRequest("Before FC", 1000.0));
+        teamService.getTeamSummary(team.getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            teamService.updateTeam(team.getId(), teamRequest("After FC", 2000.0));
+            // A concurrent reader still sees the committed team and caches it again before this transaction commits.
+            TeamDtoResponse concurrent = CompletableFuture.supplyAsync(() -> teamService.getTeamSummary(team.getId())).join();
+            assertEquals("Before FC", concurrent.getName());
+        });
+
+        TeamDtoResponse updated = teamService.getTeamSummary(team.getId());
+        assertEquals("After FC", updated.getName());
+        assertEquals(2000.0, updated.getBalance());
+    }
+
+    private long hitCount() throws Exception {
+        String stats = mockMvc.perform(get("/api/teams/cache/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.<Number>read(stats, "$.hitCount").longValue();
+    }
+}
@@ -0,0 +1,141 @@
+package com.football_manager.config;
+
+import com.football_manager.datasource.ReadYourWritesFilter;
+import com.football_manager.datasource.ReplicaDataSource;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "football-manager.datasource.routing.enabled=true",
+        "football-manager.datasource.routing.replicas[0].url=" + DataSourceRoutingTest.REPLICA_URL + ";IFEXISTS=TRUE",
+        "football-manager.datasource.routing.replicas[0].username=sa",
+        "football-manager.datasource.routing.replicas[0].password=",
+        "football-manager.datasource.routing.read-your-writes-window=PT1S",
+        "football-manager.datasource.routing.health-check-interval=PT1H",
+        "football-manager.datasource.routing.replica-connection-timeout=PT0.25S"
+})
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DataSourceRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+
+    static {
+        // The replica is seeded with its own data, so responses show which database served them.
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL + ";DB_CLOSE_DELAY=-1", "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE teams (id INTEGER PRIMARY KEY, name VARCHAR(255), balance DOUBLE PRECISION, "
+                    + "commission_percentage DOUBLE PRECISION)");
+            statement.execute("CREATE TABLE players (id INTEGER PRIMARY KEY, first_name VARCHAR(255), last_name VARCHAR(255), "
+                    + "birth_date DATE, experience_months INTEGER, team_id INTEGER REFERENCES teams (id))");
+            statement.execute("INSERT INTO teams VALUES (1, 'Replica FC', 500000, 5)");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaDataSource replicaDataSource;
+
+    @Test
+    @Order(1)
+    void readOnlyRequestsAreServedByReplica() throws Exception {
+        replicaDataSource.checkReplicas();
+
+        mockMvc.perform(get("/api/teams/summary"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Replica FC")))
+                .andExpect(content().string(not(containsString("Liverpool"))));
+    }
+
+    @Test
+    @Order(2)
+    void writesGoToPrimaryAndAreReadBackFromIt() throws Exception {
+        Cookie primaryReads = mockMvc.perform(post("/api/teams")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Primary FC\",\"balance\":1000.0,\"commissionPercentage\":5.0}"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM teams WHERE name = 'Primary FC'", Integer.class));
+        assertEquals(0, countReplicaTeams("Primary FC"));
+
+        // The new team has bumped the ETags, so it must be read back from the primary rather than the lagging replica.
+        mockMvc.perform(get("/api/teams/summary").cookie(primaryReads))
+                .andExpect(content().string(containsString("Primary FC")));
+    }
+
+    @Test
+    @Order(3)
+    void onlyTheWriterReadsFromPrimaryDuringReadYourWritesWindow() throws Exception {
+        Cookie primaryReads = mockMvc.perform(post("/api/players/1/transfer/2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        mockMvc.perform(get("/api/teams/summary").cookie(primaryReads))
+                .andExpect(content().string(containsString("Liverpool")));
+        mockMvc.perform(get("/api/teams/summary"))
+                .andExpect(content().string(containsString("Replica FC")));
+        mockMvc.perform(get("/api/teams/summary")
+                        .cookie(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(Long.MAX_VALUE))))
+                .andExpect(content().string(containsString("Replica FC")));
+
+        Thread.sleep(1500);
+
+        mockMvc.perform(get("/api/teams/summary").cookie(primaryReads))
+                .andExpect(content().string(containsString("Replica FC")));
+    }
+
+    @Test
+    @Order(4)
+    void readsFallBackToPrimaryWhenReplicaIsDown() throws Exception {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        replicaDataSource.checkReplicas();
+
+        mockMvc.perform(get("/api/teams/summary"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Liverpool")));
+    }
+
+    private int countReplicaTeams(String name) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM teams WHERE name = '" + name + "'");
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
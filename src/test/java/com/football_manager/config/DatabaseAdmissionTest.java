@@ -0,0 +1,69 @@
+package com.football_manager.config;
+
+import com.football_manager.datasource.AdmissionControlDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "football-manager.datasource.admission.permits=2"
+})
+@AutoConfigureMockMvc
+class DatabaseAdmissionTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void connectionsBeyondPermitsWaitForAClose() throws Exception {
+        AdmissionControlDataSource admission = assertInstanceOf(AdmissionControlDataSource.class, dataSource);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Connection first = dataSource.getConnection();
+            Connection second = dataSource.getConnection();
+            CompletableFuture<Boolean> third = CompletableFuture.supplyAsync(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    return connection.isValid(1);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+
+            while (admission.getQueueLength() == 0) {
+                Thread.onSpinWait();
+            }
+            assertFalse(third.isDone());
+
+            first.close();
+            first.close();
+            assertTrue(third.get(5, TimeUnit.SECONDS));
+            second.close();
+        }
+        assertEquals(2, admission.getAvailablePermits());
+    }
+
+    @Test
+    void requestsGiveTheirPermitsBack() throws Exception {
+        mockMvc.perform(get("/api/teams"))
+                .andExpect(status().isOk());
+        assertEquals(2, ((AdmissionControlDataSource) dataSource).getAvailablePermits());
+    }
+}
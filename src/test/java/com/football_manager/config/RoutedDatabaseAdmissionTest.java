@@ -0,0 +1,65 @@
+package com.football_manager.config;
+
+import com.football_manager.datasource.AdmissionControlDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + RoutedDatabaseAdmissionTest.URL,
+        "spring.threads.virtual.enabled=true",
+        "football-manager.datasource.admission.permits=2",
+        "football-manager.datasource.admission.acquire-timeout=PT0.5S",
+        "football-manager.datasource.routing.enabled=true",
+        "football-manager.datasource.routing.replicas[0].url=" + RoutedDatabaseAdmissionTest.URL,
+        "football-manager.datasource.routing.replicas[0].username=sa",
+        "football-manager.datasource.routing.replicas[0].password=",
+        "football-manager.datasource.routing.health-check-interval=PT1H",
+        "football-manager.ledger.drain-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class RoutedDatabaseAdmissionTest {
+
+    // The replica is the primary database itself, read through its own pool.
+    static final String URL = "jdbc:h2:mem:routed-admission;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void replicaReadsDoNotWaitForPrimaryPermits() throws Exception {
+        assertFalse(dataSource instanceof AdmissionControlDataSource);
+        AdmissionControlDataSource primary = assertInstanceOf(AdmissionControlDataSource.class, primaryDataSource);
+
+        try (Connection first = primary.getConnection(); Connection second = primary.getConnection()) {
+            assertEquals(0, primary.getAvailablePermits());
+            mockMvc.perform(get("/api/teams/summary"))
+                    .andExpect(status().isOk());
+        }
+
+        assertEquals(2, meterRegistry.get("datasource.admission.available").tag("pool", "primary").gauge().value());
+        assertEquals(10, meterRegistry.get("datasource.admission.available").tag("pool", "replica-0").gauge().value());
+    }
+}
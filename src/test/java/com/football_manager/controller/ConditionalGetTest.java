@@ -0,0 +1,94 @@
+package com.football_manager.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "football-manager.ledger.drain-interval=PT1H")
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+
+    private static final String[] PATHS = {"/api/teams", "/api/teams/summary", "/api/teams/1", "/api/players", "/api/players/1"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void currentETagIsAnsweredWithoutDatabaseOrBody() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String path : PATHS) {
+            String eTag = eTagOf(path);
+
+            long statements = statistics.getPrepareStatementCount();
+            mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+            assertEquals(statements, statistics.getPrepareStatementCount(), path);
+        }
+    }
+
+    @Test
+    void transferChangesETagsOfAffectedResources() throws Exception {
+        String teams = eTagOf("/api/teams");
+        String players = eTagOf("/api/players");
+        String player = eTagOf("/api/players/3");
+        String toTeam = eTagOf("/api/teams/1");
+
+        mockMvc.perform(post("/api/players/3/transfer/1"))
+                .andExpect(status().isOk());
+
+        assertNotEquals(teams, eTagOf("/api/teams"));
+        assertNotEquals(players, eTagOf("/api/players"));
+        assertNotEquals(player, eTagOf("/api/players/3"));
+        assertNotEquals(toTeam, eTagOf("/api/teams/1"));
+        mockMvc.perform(get("/api/players/3").header(HttpHeaders.IF_NONE_MATCH, player))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void eTagsOfResponsesWithAgesChangeWithTheDate() throws Exception {
+        String today = "." + LocalDate.now().toEpochDay() + "\"";
+        for (String path : new String[]{"/api/teams", "/api/teams/1", "/api/players", "/api/players/1"}) {
+            assertTrue(eTagOf(path).endsWith(today), path);
+        }
+        assertFalse(eTagOf("/api/teams/summary").endsWith(today));
+    }
+
+    @Test
+    void pagesPastTheLargestOffsetAreRejected() throws Exception {
+        mockMvc.perform(get("/api/teams").param("page", "1000000").param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+        for (String page : new String[]{"1000001", "200000000", "2147483647"}) {
+            mockMvc.perform(get("/api/teams").param("page", page))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/teams/summary").param("page", page).param("size", "1000"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private String eTagOf(String path) throws Exception {
+        return mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
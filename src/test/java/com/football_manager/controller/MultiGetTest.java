@@ -0,0 +1,63 @@
+package com.football_manager.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "football-manager.multi-get.max-ids=5",
+        "football-manager.ledger.drain-interval=PT1H"})
+@AutoConfigureMockMvc
+class MultiGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void playersAreReturnedInRequestOrderWithMissingIdsInOneQuery() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statements = statistics.getPrepareStatementCount();
+        String players = mockMvc.perform(get("/api/players?ids=7,999,2,7,5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(1, statistics.getPrepareStatementCount() - statements);
+        assertEquals(List.of(7, 2, 5), JsonPath.read(players, "$.players[*].id"));
+        assertEquals(List.of(7, 2, 5), JsonPath.read(players, "$.players[*].team.id"));
+        assertEquals(List.of(999), JsonPath.read(players, "$.missingIds"));
+    }
+
+    @Test
+    void teamsAreReturnedWithRostersInRequestOrderInTwoQueries() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statements = statistics.getPrepareStatementCount();
+        String teams = mockMvc.perform(get("/api/teams").param("ids", "3", "1", "404"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(2, statistics.getPrepareStatementCount() - statements);
+        assertEquals(List.of(3, 1), JsonPath.read(teams, "$.teams[*].id"));
+        assertEquals(List.of(3), JsonPath.read(teams, "$.teams[0].players[*].id"));
+        assertEquals(List.of(404), JsonPath.read(teams, "$.missingIds"));
+
+        String tooMany = IntStream.rangeClosed(1, 6).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        mockMvc.perform(get("/api/teams?ids=" + tooMany)).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/players?ids=" + tooMany)).andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,102 @@
+package com.football_manager.controller;
+
+import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.service.PlayerService;
+import com.football_manager.service.TeamService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.football_manager.TestRequests.playerRequest;
+import static com.football_manager.TestRequests.teamRequest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransferBatchTest {
+
+    private static final int MISSING_ID = 999999;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void batchReportsEachMoveAndConservesTotalBalance() throws Exception {
+        TeamDtoResponse seller = teamService.createTeam(teamRequest("Batch Seller", 0.0, 0.0));
+        TeamDtoResponse poor = teamService.createTeam(teamRequest("Batch Poor", 0.0, 0.0));
+        TeamDtoResponse firstBuyer = teamService.createTeam(teamRequest("Batch First Buyer", 10000000.0, 5.0));
+        TeamDtoResponse secondBuyer = teamService.createTeam(teamRequest("Batch Second Buyer", 10000000.0, 10.0));
+        PlayerTeamDtoResponse player = playerService.createPlayer(playerRequest(seller.getId()));
+        BigDecimal totalBefore = totalBalance();
+
+        String response = mockMvc.perform(post("/api/transfers/batch")
+                        .contentType("application/json")
+                        .content(batch(
+                                player.getId(), poor.getId(),
+                                MISSING_ID, firstBuyer.getId(),
+                                player.getId(), MISSING_ID,
+                                player.getId(), firstBuyer.getId(),
+                                player.getId(), secondBuyer.getId())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(2, JsonPath.<Integer>read(response, "$.completed"));
+        assertEquals(3, JsonPath.<Integer>read(response, "$.failed"));
+        assertEquals(List.of("INSUFFICIENT_BALANCE", "PLAYER_NOT_FOUND", "TEAM_NOT_FOUND", "COMPLETED", "COMPLETED"),
+                JsonPath.read(response, "$.transfers[*].status"));
+
+        // The second move of the player is paid to the first buyer, which only owns the player within the batch.
+        double firstCost = JsonPath.read(response, "$.transfers[3].totalTransferCost");
+        double secondCost = JsonPath.read(response, "$.transfers[4].totalTransferCost");
+        assertEquals(firstCost, balanceOf(seller.getId()), 0.001);
+        assertEquals(0.0, balanceOf(poor.getId()), 0.001);
+        assertEquals(10000000.0 - firstCost + secondCost, balanceOf(firstBuyer.getId()), 0.001);
+        assertEquals(10000000.0 - secondCost, balanceOf(secondBuyer.getId()), 0.001);
+        assertEquals(secondBuyer.getId(), playerService.getPlayer(player.getId()).getTeam().getId());
+        assertEquals(0, totalBefore.compareTo(totalBalance()));
+    }
+
+    @Test
+    void emptyBatchIsRejected() throws Exception {
+        mockMvc.perform(post("/api/transfers/batch")
+                        .contentType("application/json")
+                        .content("{\"transfers\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String batch(int... playerAndTeamIds) {
+        StringBuilder transfers = new StringBuilder();
+        for (int i = 0; i < playerAndTeamIds.length; i += 2) {
+            transfers.append(i == 0 ? "" : ",")
+                    .append("{\"playerId\":").append(playerAndTeamIds[i])
+                    .append(",\"teamId\":").append(playerAndTeamIds[i + 1]).append("}");
+        }
+        return "{\"transfers\":[" + transfers + "]}";
+    }
+
+    private double balanceOf(Integer teamId) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM teams WHERE id = ?", Double.class, teamId);
+    }
+
+    private BigDecimal totalBalance() {
+        return jdbcTemplate.queryForObject("SELECT SUM(balance) FROM teams", BigDecimal.class);
+    }
+}
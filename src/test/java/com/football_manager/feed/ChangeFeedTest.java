@@ -0,0 +1,136 @@
+package com.football_manager.feed;
+
+import com.football_manager.event.ChangeType;
+import com.football_manager.event.TeamChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "football-manager.events.buffer-size=16")
+class ChangeFeedTest {
+
+    private static final int MAX_PUBLISHED_EVENTS = 1_000_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<Stream<String>> streams = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        streams.forEach(Stream::close);
+    }
+
+    @Test
+    void transferIsPushedAndReplayedAfterReconnect() throws Exception {
+        Iterator<String> live = subscribe(null);
+        post("/api/players/4/transfer/2");
+
+        List<String> event = nextEvent(live);
+        assertEquals("event:transfer", event.get(1));
+        assertTrue(event.get(2).contains("\"playerId\":4"), event.get(2));
+        assertTrue(event.get(2).contains("\"toTeamId\":2"), event.get(2));
+        String id = event.get(0).substring("id:".length());
+        String instance = id.substring(0, id.lastIndexOf('-') + 1);
+        long sequence = Long.parseLong(id.substring(instance.length()));
+
+        Iterator<String> resumed = subscribe(instance + (sequence - 1));
+        assertEquals(event, nextEvent(resumed));
+    }
+
+    @Test
+    void unknownLastEventIdGetsReset() throws Exception {
+        String id = nextEvent(subscribe("00000000-1")).get(0);
+        String instance = id.substring("id:".length(), id.lastIndexOf('-') + 1);
+
+        assertEquals("event:reset", nextEvent(subscribe(instance + Long.MAX_VALUE)).get(1));
+        // Ids from before a restart or from another instance are reset even when the sequence is still buffered.
+        assertEquals("event:reset", nextEvent(subscribe("00000000-1")).get(1));
+        assertEquals("event:reset", nextEvent(subscribe("1")).get(1));
+    }
+
+    @Test
+    void subscriberWhichFallsBehindIsDisconnected() throws Exception {
+        double disconnects = slowDisconnects();
+        Iterator<String> slow = subscribe(null);
+
+        // The subscriber does not read, so once the socket buffers are full its queue fills up as well.
+        for (int i = 0; i < MAX_PUBLISHED_EVENTS && subscribers() > 0; i++) {
+            changeFeed.onTeamChanged(new TeamChangedEvent(1, ChangeType.UPDATED));
+        }
+
+        assertEquals(0.0, subscribers());
+        assertTrue(slowDisconnects() > disconnects);
+        CompletableFuture.runAsync(() -> slow.forEachRemaining(line -> { })).get(30, TimeUnit.SECONDS);
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("events.subscribers").gauge().value();
+    }
+
+    private double slowDisconnects() {
+        return meterRegistry.get("events.slow.disconnects").counter().count();
+    }
+
+    private Iterator<String> subscribe(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        Stream<String> lines = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines()).body();
+        streams.add(lines);
+        return lines.iterator();
+    }
+
+    /**
+     * Reads lines up to the blank line ending the next event, skipping heartbeat comments.
+     */
+    private List<String> nextEvent(Iterator<String> lines) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> event = new ArrayList<>();
+            while (lines.hasNext()) {
+                String line = lines.next();
+                if (line.isEmpty() && !event.isEmpty()) {
+                    return event;
+                }
+                if (!line.isEmpty() && !line.startsWith(":")) {
+                    event.add(line);
+                }
+            }
+            return event;
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    private void post(String path) throws Exception {
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(), HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, response.statusCode());
+    }
+}
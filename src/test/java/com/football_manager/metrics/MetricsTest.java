@@ -0,0 +1,51 @@
+package com.football_manager.metrics;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusEndpointExportsApplicationMetrics() throws Exception {
+        mockMvc.perform(get("/api/players/1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/players/1/transfer/2"))
+                .andExpect(status().isOk());
+        String poorTeam = mockMvc.perform(post("/api/teams")
+                        .contentType("application/json")
+                        .content("{\"name\":\"Poor FC\",\"balance\":0.0,\"commissionPercentage\":5.0}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(post("/api/players/2/transfer/" + JsonPath.read(poorTeam, "$.id")))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("uri=\"/api/players/{id}\"")))
+                .andExpect(content().string(containsString("transfers_total{application=\"football-manager\",mode=\"single\",outcome=\"completed\"} 1.0")))
+                .andExpect(content().string(containsString("transfers_total{application=\"football-manager\",mode=\"single\",outcome=\"insufficient_balance\"} 1.0")))
+                .andExpect(content().string(containsString("transfer_duration_seconds_count{application=\"football-manager\",outcome=\"completed\"} 1")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")))
+                .andExpect(content().string(containsString("hibernate_entities_loads_total")))
+                .andExpect(content().string(containsString("hibernate_flushes_total")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+}
@@ -0,0 +1,208 @@
+package com.football_manager.repository;
+
+import com.football_manager.dto.request.TransferBatchDtoRequest;
+import com.football_manager.dto.request.TransferDtoRequest;
+import com.football_manager.dto.response.PlayerResponse;
+import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.entity.Player;
+import com.football_manager.entity.Team;
+import com.football_manager.service.PlayerService;
+import com.football_manager.service.TeamService;
+import com.football_manager.service.TransferService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static com.football_manager.TestRequests.playerRequest;
+import static com.football_manager.TestRequests.teamRequest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("second-level-cache")
+class SecondLevelCacheTest {
+
+    private static final int READS = 2000;
+    private static final int READ_IDS = 10;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    void repeatedReadsAreServedWithoutSql() {
+        teamService.getTeam(1);
+        playerService.getPlayer(1);
+
+        assertEquals(0, statementsFor(() -> {
+            teamService.getTeam(1);
+            playerService.getPlayer(1);
+        }));
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void updatedTeamIsNotServedStale() {
+        TeamDtoResponse team = teamService.createTeam(teamRequest("Cached FC", 1000.0));
+        teamService.getTeam(team.getId());
+
+        teamService.updateTeam(team.getId(), teamRequest("Renamed FC", 2000.0));
+
+        assertEquals("Renamed FC", teamService.getTeam(team.getId()).getName());
+        assertEquals(2000.0, teamService.getTeam(team.getId()).getBalance());
+    }
+
+    @Test
+    void deletedTeamIsRemovedFromCachedPlayers() {
+        TeamDtoResponse team = teamService.createTeam(teamRequest("Doomed FC", 1000.0));
+        PlayerTeamDtoResponse player = playerService.createPlayer(playerRequest(team.getId()));
+        assertEquals(team.getId(), playerService.getPlayer(player.getId()).getTeam().getId());
+
+        teamService.deleteTeam(team.getId());
+
+        assertNull(playerService.getPlayer(player.getId()).getTeam());
+    }
+
+    @Test
+    void deletedPlayerIsRemovedFromCachedRoster() {
+        TeamDtoResponse team = teamService.createTeam(teamRequest("Roster FC", 1000.0));
+        PlayerTeamDtoResponse player = playerService.createPlayer(playerRequest(team.getId()));
+        assertTrue(rosterContains(team.getId(), player.getId()));
+
+        playerService.deletePlayer(player.getId());
+
+        assertFalse(rosterContains(team.getId(), player.getId()));
+    }
+
+    @Test
+    void transferIsVisibleInCachedTeamsAndPlayers() {
+        TeamDtoResponse seller = teamService.createTeam(teamRequest("Seller FC", 0.0));
+        TeamDtoResponse buyer = teamService.createTeam(teamRequest("Buyer FC", 10000000.0));
+        PlayerTeamDtoResponse player = playerService.createPlayer(playerRequest(seller.getId()));
+        assertTrue(rosterContains(seller.getId(), player.getId()));
+        assertFalse(rosterContains(buyer.getId(), player.getId()));
+        playerService.getPlayer(player.getId());
+
+        playerService.transferPlayer(player.getId(), buyer.getId());
+
+        assertFalse(rosterContains(seller.getId(), player.getId()));
+        assertTrue(rosterContains(buyer.getId(), player.getId()));
+        assertEquals(buyer.getId(), playerService.getPlayer(player.getId()).getTeam().getId());
+        assertTrue(teamService.getTeam(seller.getId()).getBalance() > 0);
+    }
+
+    @Test
+    void cachedRosterCollectionFollowsCreatesUpdatesAndBatchTransfers() {
+        TeamDtoResponse home = teamService.createTeam(teamRequest("Home FC", 10000000.0));
+        TeamDtoResponse away = teamService.createTeam(teamRequest("Away FC", 10000000.0));
+        PlayerTeamDtoResponse first = playerService.createPlayer(playerRequest(home.getId()));
+        assertEquals(List.of(first.getId()), cachedRoster(home.getId()));
+        assertEquals(List.of(), cachedRoster(away.getId()));
+
+        PlayerTeamDtoResponse second = playerService.createPlayer(playerRequest(home.getId()));
+        assertEquals(List.of(first.getId(), second.getId()), cachedRoster(home.getId()));
+
+        playerService.updatePlayer(second.getId(), playerRequest(away.getId()));
+        assertEquals(List.of(first.getId()), cachedRoster(home.getId()));
+        assertEquals(List.of(second.getId()), cachedRoster(away.getId()));
+
+        TransferDtoRequest transfer = new TransferDtoRequest();
+        transfer.setPlayerId(first.getId());
+        transfer.setTeamId(away.getId());
+        TransferBatchDtoRequest batch = new TransferBatchDtoRequest();
+        batch.setTransfers(List.of(transfer));
+        assertEquals(1, transferService.transferPlayers(batch).getCompleted());
+        assertEquals(List.of(), cachedRoster(home.getId()));
+        assertEquals(List.of(first.getId(), second.getId()), cachedRoster(away.getId()));
+    }
+
+    @Test
+    void readHeavyTrafficBenchmark() {
+        Consumer<Random> read = random -> {
+            teamService.getTeam(1 + random.nextInt(READ_IDS));
+            playerService.getPlayer(1 + random.nextInt(READ_IDS));
+        };
+
+        long coldStatements = statementsFor(() -> {
+            Random random = new Random(7);
+            for (int i = 0; i < READS; i++) {
+                sessionFactory.getCache().evictAllRegions();
+                read.accept(random);
+            }
+        });
+        long warmStatements = statementsFor(() -> {
+            Random random = new Random(7);
+            for (int i = 0; i < READS; i++) {
+                read.accept(random);
+            }
+        });
+
+        // A cold read queries the team, its roster and the player, a warm cache loads each of them at most once.
+        assertTrue(coldStatements >= 3L * READS, coldStatements + " statements with a cold cache");
+        assertTrue(warmStatements <= 3L * READ_IDS, warmStatements + " statements with the second-level cache");
+    }
+
+    private boolean rosterContains(Integer teamId, Integer playerId) {
+        return teamService.getTeam(teamId).getPlayers().stream()
+                .map(PlayerResponse::getId)
+                .anyMatch(playerId::equals);
+    }
+
+    /**
+     * Reads the roster through the Team.players collection, which puts it into the collection cache,
+     * so the next call is served from the cache unless a write evicted it.
+     */
+    private List<Integer> cachedRoster(Integer teamId) {
+        List<Integer> roster = new TransactionTemplate(transactionManager).execute(status ->
+                entityManager.find(Team.class, teamId).getPlayers().stream()
+                        .map(Player::getId)
+                        .sorted()
+                        .toList());
+        assertTrue(sessionFactory.getCache().containsCollection(Team.class.getName() + ".players", teamId));
+        return roster;
+    }
+
+    private long statementsFor(Runnable runnable) {
+        long before = statistics.getPrepareStatementCount();
+        runnable.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
@@ -0,0 +1,134 @@
+package com.football_manager.service;
+
+import com.football_manager.runner.ImportRunner;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "football-manager.import.batch-size=2")
+@AutoConfigureMockMvc
+class ImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImportRunner importRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void csvTeamsAreImportedInBatchesAndInvalidRowsReported() throws Exception {
+        String result = importFile("/api/import/teams", ImportFormat.CSV_MEDIA_TYPE, """
+                name,balance,commissionPercentage
+                Csv Import A,1000,5
+                Csv Import B,2000,5
+                ,3000,5
+                Csv Import C,not a number,5
+                Csv Import D,4000,11
+
+                Csv Import E,5000,0
+                """);
+
+        assertEquals(3, JsonPath.<Integer>read(result, "$.imported"));
+        assertEquals(3, JsonPath.<Integer>read(result, "$.failed"));
+        assertEquals(List.of("Line 4", "Line 5", "Line 6"), errorLines(result));
+        assertEquals(List.of("Csv Import A", "Csv Import B", "Csv Import E"),
+                jdbcTemplate.queryForList("SELECT name FROM teams WHERE name LIKE 'Csv Import %' ORDER BY id", String.class));
+    }
+
+    @Test
+    void csvWithByteOrderMarkQuotedHeaderAndMultilineValuesIsImported() throws Exception {
+        String result = importFile("/api/import/teams", ImportFormat.CSV_MEDIA_TYPE, "\uFEFF" + """
+                "commissionPercentage","name","balance"
+                5,"Csv Quoted, A",1000
+                5,"Csv Quoted
+                B",2000
+                5,,3000
+                """);
+
+        assertEquals(2, JsonPath.<Integer>read(result, "$.imported"));
+        assertEquals(1, JsonPath.<Integer>read(result, "$.failed"));
+        assertEquals(List.of("Line 5"), errorLines(result));
+        assertEquals(List.of("Csv Quoted, A", "Csv Quoted\nB"),
+                jdbcTemplate.queryForList("SELECT name FROM teams WHERE name LIKE 'Csv Quoted%' ORDER BY id", String.class));
+    }
+
+    @Test
+    void ndjsonPlayersAreImportedInBatchesAndUnknownTeamsReported() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            body.append(player("Player " + i, 1)).append('\n');
+        }
+        body.append(player("Unknown Team", 999999)).append('\n')
+                .append(player("", 1)).append('\n')
+                .append("{\"firstName\": \"Ndjson\",").append('\n');
+
+        String result = importFile("/api/import/players", ImportFormat.NDJSON_MEDIA_TYPE, body.toString());
+
+        assertEquals(5, JsonPath.<Integer>read(result, "$.imported"));
+        assertEquals(3, JsonPath.<Integer>read(result, "$.failed"));
+        assertEquals(List.of("Line 6", "Line 7", "Line 8"), errorLines(result));
+        assertEquals("Line 6: The team does not exist by this id: 999999", JsonPath.read(result, "$.errors[0]"));
+        assertEquals(5, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM players WHERE first_name = 'Ndjson' AND team_id = 1", Integer.class));
+    }
+
+    @Test
+    void runnerImportsFilesAndReportsFailuresInExitCode(@TempDir Path directory) throws Exception {
+        Path teams = Files.writeString(directory.resolve("teams.csv"), """
+                name,balance,commissionPercentage
+                Runner Import A,1000,5
+                """);
+        Path players = Files.writeString(directory.resolve("players.ndjson"), player("Runner", 999999) + "\n");
+
+        importRunner.run(new DefaultApplicationArguments("--import-teams=" + teams));
+        assertTrue(importRunner.hasImported());
+        assertEquals(0, importRunner.getExitCode());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM teams WHERE name = 'Runner Import A'", Integer.class));
+
+        importRunner.run(new DefaultApplicationArguments("--import-teams=" + teams, "--import-players=" + players));
+        assertEquals(1, importRunner.getExitCode());
+    }
+
+    @Test
+    void runnerDoesNothingWithoutImportOptions() throws Exception {
+        ImportRunner runner = new ImportRunner(null);
+        runner.run(new DefaultApplicationArguments("--server.port=0"));
+        assertFalse(runner.hasImported());
+        assertEquals(0, runner.getExitCode());
+    }
+
+    private String importFile(String path, String contentType, String body) throws Exception {
+        return mockMvc.perform(post(path).contentType(contentType).content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private List<String> errorLines(String result) {
+        return JsonPath.<List<String>>read(result, "$.errors").stream()
+                .map(error -> error.substring(0, error.indexOf(':')))
+                .toList();
+    }
+
+    private String player(String lastName, int teamId) {
+        return "{\"firstName\": \"Ndjson\", \"lastName\": \"" + lastName + "\", \"birthDate\": \"1999-03-04\", "
+                + "\"experienceMonths\": 12, \"teamId\": " + teamId + "}";
+    }
+}
@@ -0,0 +1,87 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.football_manager.dto.response.PlayerValueDtoResponse;
+import com.football_manager.dto.response.SquadValueDtoResponse;
+import com.football_manager.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MarketValueTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MarketValueService marketValueService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void marketValuesAreKeptCurrentAndServedInOrder() throws Exception {
+        for (PlayerTeamDtoResponse summary : playerService.getPlayers(0, 1000)) {
+            Player player = playerService.getPlayerById(summary.getId());
+            assertEquals(playerService.calculatePlayerPrice(player), player.getMarketValue());
+            assertTrue(player.getRevalueOn().isAfter(LocalDate.now()));
+        }
+
+        jdbcTemplate.update("UPDATE players SET market_value = 1, revalue_on = ? WHERE id = 1", LocalDate.now().minusDays(1));
+        marketValueService.revalueDuePlayers();
+        Player revalued = playerService.getPlayerById(1);
+        assertEquals(playerService.calculatePlayerPrice(revalued), revalued.getMarketValue());
+
+        List<PlayerValueDtoResponse> mostValuable = marketValueService.getMostValuablePlayers(3);
+        assertEquals(3, mostValuable.size());
+        assertEquals(mostValuable.stream().sorted(Comparator.comparing(PlayerValueDtoResponse::getMarketValue).reversed()).toList(),
+                mostValuable);
+
+        SquadValueDtoResponse squad = marketValueService.getSquadValue(1);
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM players WHERE team_id = 1", Long.class), squad.getPlayers());
+        assertEquals(jdbcTemplate.queryForObject("SELECT SUM(market_value) FROM players WHERE team_id = 1", Double.class),
+                squad.getSquadValue(), 0.001);
+        List<SquadValueDtoResponse> squads = marketValueService.getSquadValues();
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM teams", Integer.class), squads.size());
+        assertEquals(squads.stream().sorted(Comparator.comparing(SquadValueDtoResponse::getSquadValue).reversed()).toList(),
+                squads);
+
+        mockMvc.perform(get("/api/players/most-valuable").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(mostValuable.get(0).getId()));
+        mockMvc.perform(get("/api/teams/999/squad-value")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void leapDayBirthdayIsRevaluedOnFirstOfMarch() {
+        Player player = Player.builder()
+                .birthDate(LocalDate.of(2000, 2, 29))
+                .experienceMonths(12)
+                .build();
+
+        player.revalue(LocalDate.of(2025, 2, 28));
+        assertEquals(LocalDate.of(2025, 3, 1), player.getRevalueOn());
+        assertEquals(Player.calculatePrice(12, 24), player.getMarketValue());
+
+        player.revalue(LocalDate.of(2028, 2, 29));
+        assertEquals(LocalDate.of(2029, 3, 1), player.getRevalueOn());
+        assertEquals(Player.calculatePrice(12, 28), player.getMarketValue());
+    }
+}
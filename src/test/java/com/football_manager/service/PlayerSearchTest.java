@@ -0,0 +1,92 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.request.PlayerDtoRequest;
+import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PlayerSearchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void searchMatchesNamePrefixesAndSimilarNames() throws Exception {
+        assertEquals(List.of("Salah", "Saliba"), lastNames(search("name=SAL")));
+        assertEquals(List.of("Salah"), lastNames(search("name=mo sal")));
+        assertEquals(List.of(), lastNames(search("name=lah")));
+        assertEquals(List.of(), lastNames(search("name=s%25")));
+        assertEquals(List.of("Haaland"), lastNames(search("name=Haland&fuzzy=true")));
+        assertEquals(List.of("Saliba"), lastNames(search("name=sal&teamId=2")));
+    }
+
+    @Test
+    void searchFiltersByAgeAndExperienceAndPagesById() throws Exception {
+        LocalDate today = LocalDate.now();
+        PlayerTeamDtoResponse turnsTwentyToday = playerService.createPlayer(player("Range", today.minusYears(20), 50));
+        PlayerTeamDtoResponse turnsTwentyTomorrow = playerService.createPlayer(player("Range", today.minusYears(20).plusDays(1), 60));
+        PlayerTeamDtoResponse turnsTwentyOneToday = playerService.createPlayer(player("Range", today.minusYears(21), 70));
+
+        assertEquals(List.of(turnsTwentyToday.getId()), ids(search("name=range&minAge=20&maxAge=20")));
+        assertEquals(List.of(turnsTwentyTomorrow.getId(), turnsTwentyOneToday.getId()),
+                ids(search("name=range&minExperienceMonths=55")));
+        assertEquals(List.of(turnsTwentyOneToday.getId()),
+                ids(search("name=range&bornTo=" + today.minusYears(21) + "&bornFrom=" + today.minusYears(21))));
+
+        List<Integer> pages = new ArrayList<>();
+        int after = 0;
+        List<Integer> page;
+        while (!(page = ids(search("name=range&limit=2&after=" + after))).isEmpty()) {
+            pages.addAll(page);
+            after = page.getLast();
+        }
+        assertEquals(List.of(turnsTwentyToday.getId(), turnsTwentyTomorrow.getId(), turnsTwentyOneToday.getId()), pages);
+
+        mockMvc.perform(get("/api/players/search?limit=0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/players/search?maxAge=2147483647")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/players/search?minAge=201")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/players/search?minAge=30&maxAge=20")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/players/search?bornFrom=2000-01-02&bornTo=2000-01-01")).andExpect(status().isBadRequest());
+        assertEquals(List.of(), ids(search("name=range&minAge=200&maxAge=200")));
+    }
+
+    private String search(String query) throws Exception {
+        return mockMvc.perform(get("/api/players/search?" + query))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private List<String> lastNames(String players) {
+        return JsonPath.read(players, "$[*].lastName");
+    }
+
+    private List<Integer> ids(String players) {
+        return JsonPath.read(players, "$[*].id");
+    }
+
+    private PlayerDtoRequest player(String lastName, LocalDate birthDate, Integer experienceMonths) {
+        PlayerDtoRequest request = new PlayerDtoRequest();
+        request.setFirstName("Search");
+        request.setLastName(lastName);
+        request.setBirthDate(birthDate);
+        request.setExperienceMonths(experienceMonths);
+        request.setTeamId(1);
+        return request;
+    }
+}
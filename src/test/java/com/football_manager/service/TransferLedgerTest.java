@@ -0,0 +1,102 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.response.TransferRecordDtoResponse;
+import com.football_manager.exception.InsufficientBalanceException;
+import com.football_manager.repository.TransferLedgerRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "football-manager.ledger.drain-interval=PT1H",
+        "football-manager.ledger.batch-size=2"
+})
+@AutoConfigureMockMvc
+class TransferLedgerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TransferLedgerService transferLedgerService;
+
+    @Autowired
+    private TransferLedgerRepository transferLedgerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void committedTransfersReachTheLedgerThroughTheOutbox() throws Exception {
+        transferLedgerService.drainOutbox();
+        String poorTeam = mockMvc.perform(post("/api/teams")
+                        .contentType("application/json")
+                        .content("{\"name\":\"Ledger FC\",\"balance\":0.0,\"commissionPercentage\":5.0}"))
+                .andReturn().getResponse().getContentAsString();
+        Integer poorTeamId = JsonPath.read(poorTeam, "$.id");
+
+        playerService.transferPlayer(5, 2);
+        playerService.transferPlayer(5, 3);
+        mockMvc.perform(post("/api/transfers/batch")
+                        .contentType("application/json")
+                        .content("{\"transfers\":[{\"playerId\":5,\"teamId\":2},{\"playerId\":6,\"teamId\":" + poorTeamId + "}]}"))
+                .andExpect(status().isOk());
+        assertThrows(InsufficientBalanceException.class, () -> playerService.transferPlayer(6, poorTeamId));
+
+        assertEquals(3, transferLedgerRepository.countOutbox());
+        assertEquals(List.of(), transferLedgerService.getPlayerTransfers(5, Long.MAX_VALUE, 10));
+
+        transferLedgerService.drainOutbox();
+        assertEquals(0, transferLedgerRepository.countOutbox());
+
+        List<TransferRecordDtoResponse> player = transferLedgerService.getPlayerTransfers(5, Long.MAX_VALUE, 10);
+        assertEquals(List.of(2, 3, 2), player.stream().map(TransferRecordDtoResponse::getToTeamId).toList().reversed());
+        TransferRecordDtoResponse first = player.get(2);
+        assertEquals(playerService.calculatePlayerPrice(playerService.getPlayerById(5)), first.getPrice());
+
+        List<TransferRecordDtoResponse> team = transferLedgerService.getTeamTransfers(3, Long.MAX_VALUE, 10);
+        assertEquals(2, team.size());
+        assertEquals(3, team.get(1).getToTeamId());
+        assertEquals(3, team.get(0).getFromTeamId());
+
+        String page = mockMvc.perform(get("/api/players/5/transfers").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Integer> ids = JsonPath.read(page, "$[*].id");
+        mockMvc.perform(get("/api/players/5/transfers").param("before", String.valueOf(ids.get(1))))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(player.get(2).getId(), transferLedgerService.getPlayerTransfers(5, ids.get(1).longValue(), 2).get(0).getId());
+    }
+
+    @Test
+    void transferDrainedLateIsRecordedAboveEveryPagedTransfer() {
+        playerService.transferPlayer(7, 8);
+        transferLedgerService.drainOutbox();
+        Long newest = transferLedgerService.getPlayerTransfers(7, Long.MAX_VALUE, 1).get(0).getId();
+
+        // Rows written by other instances come from their own blocks of the outbox sequence, so they can have lower outbox ids.
+        jdbcTemplate.update("INSERT INTO transfer_outbox (id, player_id, from_team_id, to_team_id, price, commission, transferred_at) "
+                + "VALUES (2, 7, 9, 8, 100.0, 5.0, CURRENT_TIMESTAMP), (1, 7, 8, 9, 100.0, 5.0, CURRENT_TIMESTAMP)");
+        transferLedgerService.drainOutbox();
+
+        List<TransferRecordDtoResponse> page = transferLedgerService.getPlayerTransfers(7, Long.MAX_VALUE, 3);
+        assertEquals(List.of(newest + 2, newest + 1, newest), page.stream().map(TransferRecordDtoResponse::getId).toList());
+        assertEquals(List.of(8, 9, 8), page.stream().map(TransferRecordDtoResponse::getToTeamId).toList());
+        assertEquals(List.of(), transferLedgerService.getPlayerTransfers(7, newest, 10));
+    }
+}
@@ -0,0 +1,106 @@
+package com.football_manager.service;
+
+import com.football_manager.dto.request.PlayerDtoRequest;
+import com.football_manager.dto.response.PlayerTeamDtoResponse;
+import com.football_manager.dto.response.TransferQuoteDtoResponse;
+import com.football_manager.entity.Player;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransferQuoteTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TransferQuoteService transferQuoteService;
+
+    @Test
+    void quoteMatchesTheTransferPriceAndTurnsAgeOnTheBirthday() throws Exception {
+        PlayerTeamDtoResponse birthdayTomorrow = playerService.createPlayer(player(LocalDate.now().plusDays(1).minusYears(20), 1));
+        PlayerTeamDtoResponse birthdayToday = playerService.createPlayer(player(LocalDate.now().minusYears(20), 1));
+
+        Double commissionPercentage = teamService.getTeamSummary(2).getCommissionPercentage();
+        for (Integer playerId : List.of(1, 4, birthdayTomorrow.getId(), birthdayToday.getId())) {
+            Player player = playerService.getPlayerById(playerId);
+            TransferQuoteDtoResponse quote = transferQuoteService.getTransferQuote(playerId, 2);
+            assertEquals(player.getAge(), quote.getAge());
+            assertEquals(playerService.calculatePlayerPrice(player), quote.getPrice());
+            assertEquals(playerService.calculateTotalTransferCost(player, commissionPercentage), quote.getTotalTransferCost());
+        }
+        assertEquals(19, transferQuoteService.getTransferQuote(birthdayTomorrow.getId(), 2).getAge());
+        assertEquals(20, transferQuoteService.getTransferQuote(birthdayToday.getId(), 2).getAge());
+
+        mockMvc.perform(get("/api/players/1/transfer/999/quote")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/players/999/transfer/2/quote")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void affordablePlayersAreThoseTheTeamCanBuy() throws Exception {
+        String team = mockMvc.perform(post("/api/teams")
+                        .contentType("application/json")
+                        .content("{\"name\":\"Scouts FC\",\"balance\":150000.0,\"commissionPercentage\":10.0}"))
+                .andReturn().getResponse().getContentAsString();
+        Integer teamId = JsonPath.read(team, "$.id");
+
+        List<Integer> expected = new ArrayList<>();
+        for (PlayerTeamDtoResponse summary : playerService.getPlayers(0, 1000)) {
+            Player player = playerService.getPlayerById(summary.getId());
+            if (player.getAge() > 0 && playerService.calculateTotalTransferCost(player, 10.0) <= 150000.0) {
+                expected.add(player.getId());
+            }
+        }
+        assertFalse(expected.isEmpty());
+
+        List<Integer> found = new ArrayList<>();
+        Integer after = 0;
+        List<TransferQuoteDtoResponse> page;
+        do {
+            page = transferQuoteService.getAffordablePlayers(teamId, after, 2);
+            page.forEach(quote -> assertTrue(quote.getTotalTransferCost() <= 150000.0));
+            page.forEach(quote -> found.add(quote.getPlayerId()));
+            after = page.isEmpty() ? after : page.get(page.size() - 1).getPlayerId();
+        } while (page.size() == 2);
+        assertEquals(expected, found);
+
+        Integer bought = found.get(0);
+        playerService.transferPlayer(bought, teamId);
+        mockMvc.perform(get("/api/teams/" + teamId + "/affordable-players"))
+                .andExpect(status().isOk())
+                .andExpect(result -> assertFalse(JsonPath.<List<Integer>>read(
+                        result.getResponse().getContentAsString(), "$[*].playerId").contains(bought)));
+        mockMvc.perform(get("/api/teams/999/affordable-players")).andExpect(status().isNotFound());
+    }
+
+    private PlayerDtoRequest player(LocalDate birthDate, Integer teamId) {
+        PlayerDtoRequest request = new PlayerDtoRequest();
+        request.setFirstName("Quote");
+        request.setLastName("Test");
+        request.setBirthDate(birthDate);
+        request.setExperienceMonths(24);
+        request.setTeamId(teamId);
+        return request;
+    }
+}
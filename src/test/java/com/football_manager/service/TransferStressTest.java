@@ -0,0 +1,121 @@
+package com.football_manager.service;
+
+import com.football_manager.exception.InsufficientBalanceException;
+import com.football_manager.exception.TransferConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Slf4j
+class TransferStressTest {
+
+    private static final int TEAMS = 20;
+    private static final int PLAYERS = 400;
+    private static final int TRANSFERS = 4000;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Integer> teamIds = new ArrayList<>();
+    private final List<Integer> playerIds = new ArrayList<>();
+
+    @BeforeEach
+    void seedLeague() {
+        jdbcTemplate.update("DELETE FROM players WHERE first_name = 'Stress'");
+        jdbcTemplate.update("DELETE FROM teams WHERE name LIKE 'Stress %'");
+
+        List<Object[]> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(new Object[]{"Stress " + i, 1000000, 5});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO teams (name, balance, commission_percentage) VALUES (?, ?, ?)", teams);
+        teamIds.clear();
+        teamIds.addAll(jdbcTemplate.queryForList("SELECT id FROM teams WHERE name LIKE 'Stress %' ORDER BY id", Integer.class));
+
+        Random random = new Random(42);
+        List<Object[]> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new Object[]{"Stress", "Player " + i, "1995-01-01", 6 + random.nextInt(24), teamIds.get(random.nextInt(TEAMS))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO players (first_name, last_name, birth_date, experience_months, team_id) VALUES (?, ?, CAST(? AS DATE), ?, ?)", players);
+        playerIds.clear();
+        playerIds.addAll(jdbcTemplate.queryForList("SELECT id FROM players WHERE first_name = 'Stress' ORDER BY id", Integer.class));
+    }
+
+    @Test
+    void concurrentTransfersConserveTotalBalance() throws InterruptedException {
+        BigDecimal totalBefore = totalBalance();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        for (int i = 0; i < TRANSFERS; i++) {
+            Random random = new Random(i);
+            Integer playerId = playerIds.get(random.nextInt(playerIds.size()));
+            Integer teamId = teamIds.get(random.nextInt(teamIds.size()));
+            executor.submit(() -> {
+                try {
+                    playerService.transferPlayer(playerId, teamId);
+                    completed.incrementAndGet();
+                } catch (InsufficientBalanceException e) {
+                    rejected.incrementAndGet();
+                } catch (TransferConflictException e) {
+                    conflicts.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+        long elapsedNanos = System.nanoTime() - start;
+
+        log.info("{} transfers on {} threads in {} ms: {} transfers/sec (completed={}, insufficient balance={}, conflicts={})",
+                TRANSFERS, THREADS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(TRANSFERS / (elapsedNanos / 1e9)), completed.get(), rejected.get(), conflicts.get());
+
+        assertEquals(TRANSFERS, completed.get() + rejected.get() + conflicts.get());
+        assertTrue(completed.get() > 0);
+        assertEquals(0, totalBefore.compareTo(totalBalance()));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM teams WHERE balance < 0", Integer.class));
+    }
+
+    @Test
+    void rejectedTransferLeavesBalancesUntouched() {
+        Integer poorTeamId = teamIds.get(0);
+        jdbcTemplate.update("UPDATE teams SET balance = 0 WHERE id = ?", poorTeamId);
+        Integer playerId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM players WHERE first_name = 'Stress' AND team_id <> ?", Integer.class, poorTeamId);
+        BigDecimal totalBefore = totalBalance();
+
+        assertThrows(InsufficientBalanceException.class, () -> playerService.transferPlayer(playerId, poorTeamId));
+
+        assertEquals(0, totalBefore.compareTo(totalBalance()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(
+                jdbcTemplate.queryForObject("SELECT balance FROM teams WHERE id = ?", BigDecimal.class, poorTeamId)));
+    }
+
+    private BigDecimal totalBalance() {
+        return jdbcTemplate.queryForObject("SELECT SUM(balance) FROM teams", BigDecimal.class);
+    }
+}
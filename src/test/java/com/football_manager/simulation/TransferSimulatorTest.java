@@ -0,0 +1,136 @@
+package com.football_manager.simulation;
+
+import com.football_manager.service.SimulationService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransferSimulatorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Test
+    void sameSeedGivesSameResultOnAnyNumberOfThreadsAndMoneyIsConserved() {
+        LeagueState state = randomLeague(new Random(7), 12, 400);
+        SimulationStatistics single;
+        SimulationStatistics parallel;
+        try (ForkJoinPool onePool = new ForkJoinPool(1); ForkJoinPool fourPool = new ForkJoinPool(4)) {
+            single = new TransferSimulator(onePool).simulate(state, 1000, 200, 42L, progress -> { });
+            parallel = new TransferSimulator(fourPool).simulate(state, 1000, 200, 42L, progress -> { });
+        }
+
+        assertEquals(1000, single.getTrials());
+        assertEquals(1000L * 200, single.getCompletedTransfers() + single.getRejectedTransfers());
+        assertTrue(single.getCompletedTransfers() > 0);
+        assertEquals(single.getCompletedTransfers(), parallel.getCompletedTransfers());
+
+        double balanceMeans = 0;
+        double squadSizeMeans = 0;
+        for (int team = 0; team < state.getTeamCount(); team++) {
+            assertEquals(single.getBalanceMean(team), parallel.getBalanceMean(team));
+            assertEquals(single.getBalanceStdDev(team), parallel.getBalanceStdDev(team));
+            assertEquals(single.getBalanceMin(team), parallel.getBalanceMin(team));
+            assertEquals(single.getSquadSizeMax(team), parallel.getSquadSizeMax(team));
+            assertTrue(single.getBalanceMin(team) >= 0);
+            balanceMeans += single.getBalanceMean(team);
+            squadSizeMeans += single.getSquadSizeMean(team);
+        }
+        // Every player has a team, so transfers only move money and players between teams.
+        assertEquals(Arrays.stream(state.copyBalances()).sum(), balanceMeans, 1e-3);
+        assertEquals(Arrays.stream(state.countSquadSizes()).sum(), squadSizeMeans, 1e-9);
+    }
+
+    @Test
+    void simulationStreamsProgressTeamsAndSummary() throws Exception {
+        LeagueState state = simulationService.loadLeagueState();
+        MvcResult started = mockMvc.perform(post("/api/simulations")
+                        .contentType("application/json")
+                        .content("{\"trials\":5000,\"transfersPerTrial\":50,\"seed\":1}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertEquals("PROGRESS", JsonPath.read(lines.getFirst(), "$.type"));
+        String summary = lines.getLast();
+        assertEquals("SUMMARY", JsonPath.read(summary, "$.type"));
+        assertEquals(5000, JsonPath.<Integer>read(summary, "$.trials"));
+        assertEquals(1, JsonPath.<Integer>read(summary, "$.seed"));
+        List<String> teams = lines.stream().filter(line -> line.contains("\"TEAM\"")).toList();
+        assertEquals(state.getTeamCount(), teams.size());
+        assertEquals(state.getTeamId(0), JsonPath.<Integer>read(teams.getFirst(), "$.teamId"));
+
+        mockMvc.perform(post("/api/simulations")
+                        .contentType("application/json")
+                        .content("{\"trials\":0}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void simulationsAreLimitedAndStopWhenTheResponseTimesOut() throws Exception {
+        MvcResult running = mockMvc.perform(post("/api/simulations")
+                        .contentType("application/json")
+                        .content("{\"trials\":200000,\"transfersPerTrial\":10000,\"seed\":1}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(post("/api/simulations")
+                        .contentType("application/json")
+                        .content("{\"trials\":10}"))
+                .andExpect(status().isTooManyRequests());
+
+        MockAsyncContext asyncContext = (MockAsyncContext) running.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        MvcResult next;
+        do {
+            Thread.sleep(50);
+            next = mockMvc.perform(post("/api/simulations")
+                            .contentType("application/json")
+                            .content("{\"trials\":10}"))
+                    .andReturn();
+        } while (next.getResponse().getStatus() == 429 && System.nanoTime() < deadline);
+        assertTrue(next.getRequest().isAsyncStarted());
+        mockMvc.perform(asyncDispatch(next)).andExpect(status().isOk());
+    }
+
+    private LeagueState randomLeague(Random random, int teams, int players) {
+        LeagueState state = new LeagueState();
+        for (int team = 0; team < teams; team++) {
+            state.addTeam(team + 1, 1_000_000_000L + random.nextInt(1_000_000_000), random.nextInt(11));
+        }
+        for (int player = 0; player < players; player++) {
+            state.addPlayer(player + 1, random.nextInt(teams), random.nextInt(120) * 100000.0 / (18 + random.nextInt(20)));
+        }
+        return state;
+    }
+}
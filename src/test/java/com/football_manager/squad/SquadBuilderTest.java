@@ -0,0 +1,122 @@
+package com.football_manager.squad;
+
+import com.football_manager.dto.response.TeamDtoResponse;
+import com.football_manager.service.TeamService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SquadBuilderTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Test
+    void optimizerFindsTheBestSquadAndStopsAtTheTimeBudget() {
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            checkOptimizer(new SquadOptimizer(pool));
+        }
+    }
+
+    private void checkOptimizer(SquadOptimizer optimizer) {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            SquadCandidates candidates = randomCandidates(random, 16);
+            long budget = 1_000_000 + random.nextInt(4_000_000);
+            int maxPlayers = 1 + random.nextInt(16);
+
+            SquadSolution solution = optimizer.solve(candidates, budget, maxPlayers, Duration.ofSeconds(10));
+            assertTrue(solution.isOptimal());
+            assertEquals(bruteForce(candidates, budget, maxPlayers), solution.getExperienceMonths());
+            assertTrue(solution.getCost() <= budget);
+            assertTrue(solution.getCandidateIndexes().length <= maxPlayers);
+            assertEquals(solution.getExperienceMonths(),
+                    Arrays.stream(solution.getCandidateIndexes()).mapToLong(candidates::getExperienceMonths).sum());
+        }
+
+        SquadCandidates many = randomCandidates(random, 200_000);
+        long started = System.nanoTime();
+        SquadSolution solution = optimizer.solve(many, 500_000_000L, Integer.MAX_VALUE, Duration.ofMillis(200));
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(3)) < 0);
+        assertTrue(solution.getCost() <= 500_000_000L);
+        assertTrue(solution.getExperienceMonths() > 0);
+    }
+
+    @Test
+    void squadBuilderStaysWithinTheBalance() throws Exception {
+        TeamDtoResponse team = teamService.getTeamSummary(3);
+        String squad = mockMvc.perform(post("/api/teams/3/squad-builder")
+                        .contentType("application/json")
+                        .content("{\"maxPlayers\":3}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.optimal").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Integer> fromTeams = JsonPath.read(squad, "$.players[*].fromTeamId");
+        assertTrue(fromTeams.size() <= 3 && !fromTeams.isEmpty() && !fromTeams.contains(3));
+        double totalTransferCost = JsonPath.<Double>read(squad, "$.totalTransferCost");
+        assertTrue(totalTransferCost <= team.getBalance());
+        List<Double> costs = JsonPath.read(squad, "$.players[*].totalTransferCost");
+        assertEquals(totalTransferCost, costs.stream().mapToDouble(Double::doubleValue).sum(), 0.001);
+
+        mockMvc.perform(post("/api/teams/3/squad-builder")
+                        .contentType("application/json")
+                        .content("{\"maxPlayers\":0}"))
+                .andExpect(status().isBadRequest());
+        for (String invalid : new String[]{"{\"maxAge\":2147483647}", "{\"minAge\":201}", "{\"minAge\":30,\"maxAge\":20}"}) {
+            mockMvc.perform(post("/api/teams/3/squad-builder")
+                            .contentType("application/json")
+                            .content(invalid))
+                    .andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(post("/api/teams/999/squad-builder")).andExpect(status().isNotFound());
+    }
+
+    private SquadCandidates randomCandidates(Random random, int size) {
+        SquadCandidates candidates = new SquadCandidates();
+        for (int i = 0; i < size; i++) {
+            candidates.add(i + 1, 100_000 + random.nextInt(2_000_000), random.nextInt(60));
+        }
+        return candidates;
+    }
+
+    private long bruteForce(SquadCandidates candidates, long budget, int maxPlayers) {
+        long best = 0;
+        for (int subset = 0; subset < 1 << candidates.size(); subset++) {
+            if (Integer.bitCount(subset) > maxPlayers) {
+                continue;
+            }
+            long cost = 0;
+            long experience = 0;
+            for (int i = 0; i < candidates.size(); i++) {
+                if ((subset & 1 << i) != 0) {
+                    cost += candidates.getCost(i);
+                    experience += candidates.getExperienceMonths(i);
+                }
+            }
+            if (cost <= budget) {
+                best = Math.max(best, experience);
+            }
+        }
+        return best;
+    }
+}
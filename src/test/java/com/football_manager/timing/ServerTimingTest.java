@@ -0,0 +1,89 @@
+package com.football_manager.timing;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "football-manager.server-timing.enabled=true",
+        "football-manager.snapshot.enabled=true"
+})
+@AutoConfigureMockMvc
+class ServerTimingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void responseCarriesServerTimingHeader() throws Exception {
+        mockMvc.perform(get("/api/teams"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(
+                        "db;desc=\"[1-9]\\d* SQL statements\";dur=[\\d.]+, mapping;dur=[\\d.]+, serialization;dur=[\\d.]+, total;dur=[\\d.]+")))
+                .andExpect(jsonPath("$[0].name").exists());
+    }
+
+    @Test
+    void debugHeaderWrapsBodyWithTimings() throws Exception {
+        mockMvc.perform(get("/api/players/1").header("X-Server-Timing-Debug", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(1))
+                .andExpect(jsonPath("$.serverTiming.sqlStatements", greaterThan(0)))
+                .andExpect(jsonPath("$.serverTiming.totalMs").isNumber());
+    }
+
+    @Test
+    void asyncResponsesAreStreamedWithoutTiming() throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/simulations")
+                        .contentType("application/json")
+                        .content("{\"trials\":10,\"transfersPerTrial\":10,\"seed\":1}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("SUMMARY", JsonPath.read(body.lines().toList().getLast(), "$.type"));
+    }
+
+    @Test
+    void debugHeaderLeavesEncodedBodiesAlone() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/snapshot/teams")
+                        .header("Accept-Encoding", "gzip")
+                        .header("X-Server-Timing-Debug", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().exists("Server-Timing"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertTrue(new String(gzip.readAllBytes(), StandardCharsets.UTF_8).startsWith("["));
+        }
+    }
+
+    @Test
+    void excludedPathsAreNotTimed() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(header().doesNotExist("Server-Timing"));
+    }
+}